@@ -0,0 +1,119 @@
+package com.transfermarket.bench;
+
+import com.transfermarket.controller.datastructure.Algorithms;
+import com.transfermarket.model.TransferModel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the legacy LinkedList sorts against their replacements. Selection
+ * and insertion sort are O(n^2) by design, and the legacy merge sort becomes
+ * quadratic too because it reaches list elements by index. This limits these
+ * runs to 10,000 players; at 10M players a single selection sort would need
+ * about 5 * 10^13 comparisons.
+ *
+ * @author Samir Adhikari
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class QuadraticSortBenchmark {
+
+    /**
+     * A roster arranged relative to the key a benchmark sorts by. JMH only
+     * accepts parameters in state classes, so the base class is one too.
+     */
+    @State(Scope.Benchmark)
+    public abstract static class Input {
+
+        @Param({"10", "1000", "10000"})
+        public int size;
+
+        @Param({"RANDOM", "SORTED", "REVERSED", "DUPLICATES"})
+        public Rosters.Distribution distribution;
+
+        TransferModel[] players;
+
+        @Setup(Level.Trial)
+        public void createRoster() {
+            players = Rosters.create(size, distribution, key());
+        }
+
+        abstract Comparator<TransferModel> key();
+    }
+
+    @State(Scope.Benchmark)
+    public static class AgeInput extends Input {
+
+        @Override
+        Comparator<TransferModel> key() {
+            return Algorithms.BY_AGE;
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class NameInput extends Input {
+
+        @Override
+        Comparator<TransferModel> key() {
+            return Algorithms.BY_NAME;
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class GoalContributionInput extends Input {
+
+        @Override
+        Comparator<TransferModel> key() {
+            return Algorithms.BY_GOAL_CONTRIBUTION;
+        }
+    }
+
+    @Benchmark
+    public List<TransferModel> legacyMergeSortByAge(AgeInput input) {
+        return Algorithms.mergeSortByAge(new LinkedList<>(Arrays.asList(input.players)));
+    }
+
+    @Benchmark
+    public List<TransferModel> sortByAge(AgeInput input) {
+        return Algorithms.sortByAge(new ArrayList<>(Arrays.asList(input.players)));
+    }
+
+    @Benchmark
+    public List<TransferModel> legacySelectionSortByName(NameInput input) {
+        return Algorithms.selectionSortByName(new LinkedList<>(Arrays.asList(input.players)));
+    }
+
+    @Benchmark
+    public List<TransferModel> sortByName(NameInput input) {
+        return Algorithms.sortByName(new ArrayList<>(Arrays.asList(input.players)));
+    }
+
+    @Benchmark
+    public List<TransferModel> legacyInsertionSortByGoalContribution(GoalContributionInput input) {
+        return Algorithms.insertionSortByGoalContribution(new LinkedList<>(Arrays.asList(input.players)));
+    }
+
+    @Benchmark
+    public List<TransferModel> sortByGoalContribution(GoalContributionInput input) {
+        return Algorithms.sortByGoalContribution(new ArrayList<>(Arrays.asList(input.players)));
+    }
+}
@@ -0,0 +1,88 @@
+package com.transfermarket.bench;
+
+import com.transfermarket.model.TransferModel;
+import com.transfermarket.util.RosterGenerator;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+/**
+ * Builds reproducible benchmark inputs: a fixed-seed roster of players,
+ * arranged in one of several orders relative to the key being measured.
+ *
+ * @author Samir Adhikari
+ */
+public final class Rosters {
+
+    /**
+     * How the input is arranged before it is handed to the algorithm.
+     */
+    public enum Distribution {
+        /**
+         * Independent random values.
+         */
+        RANDOM,
+        /**
+         * Already sorted by the measured key.
+         */
+        SORTED,
+        /**
+         * Sorted by the measured key in descending order.
+         */
+        REVERSED,
+        /**
+         * Only a handful of distinct key values.
+         */
+        DUPLICATES
+    }
+
+    private static final long SEED = 42;
+
+    private static final String[] POSITIONS = {"GK", "LB", "RB", "CB", "CDM", "CM", "AMF", "RWF", "LWF", "ST"};
+    private static final String[] NATIONALITIES = {"Argentina", "Brazil", "Spain", "England", "France",
+        "Nepal", "Belgium", "Slovakia", "Hungary", "Portugal"};
+    private static final String[] NAMES = {"Lionel", "Cristiano", "Kylian"};
+
+    private Rosters() {
+    }
+
+    /**
+     * Creates a roster arranged by a distribution. Apart from DUPLICATES, the
+     * players come from {@link RosterGenerator}, so they are realistic and
+     * pass the input validation of the application.
+     *
+     * @param size The number of players.
+     * @param distribution The arrangement of the players.
+     * @param key The order that SORTED and REVERSED refer to.
+     * @return The players, always the same for the same arguments.
+     */
+    static TransferModel[] create(int size, Distribution distribution, Comparator<TransferModel> key) {
+        if (distribution == Distribution.DUPLICATES) {
+            return duplicates(size);
+        }
+        TransferModel[] players = new RosterGenerator(SEED).stream(size).toArray(TransferModel[]::new);
+        if (distribution == Distribution.SORTED) {
+            Arrays.sort(players, key);
+        } else if (distribution == Distribution.REVERSED) {
+            Arrays.sort(players, key.reversed());
+        }
+        return players;
+    }
+
+    /**
+     * Creates players that share three names, three ages, three market values
+     * and three goal contributions.
+     */
+    private static TransferModel[] duplicates(int size) {
+        Random random = new Random(SEED);
+        TransferModel[] players = new TransferModel[size];
+        for (int i = 0; i < size; i++) {
+            players[i] = new TransferModel(i + 1, NAMES[random.nextInt(NAMES.length)],
+                    POSITIONS[random.nextInt(POSITIONS.length)],
+                    NATIONALITIES[random.nextInt(NATIONALITIES.length)],
+                    20 + random.nextInt(3), 10 * (1 + random.nextInt(3)),
+                    1 + random.nextInt(5), random.nextInt(3));
+        }
+        return players;
+    }
+}
@@ -0,0 +1,94 @@
+package com.transfermarket.bench;
+
+import com.transfermarket.controller.PlayerRegistry;
+import com.transfermarket.controller.datastructure.Algorithms;
+import com.transfermarket.model.TransferModel;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures name lookups: the legacy binary search over a sorted LinkedList
+ * (whose get(i) walks the list) against the indexes of
+ * {@link PlayerRegistry}. The queries cycle through the names of existing
+ * players, so every lookup hits.
+ *
+ * @author Samir Adhikari
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx12g", "--add-modules", "jdk.incubator.vector"})
+public class SearchBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Input {
+
+        @Param({"10", "1000", "100000", "1000000", "10000000"})
+        public int size;
+
+        @Param({"RANDOM", "DUPLICATES"})
+        public Rosters.Distribution distribution;
+
+        LinkedList<TransferModel> sortedList;
+        PlayerRegistry registry;
+        String[] queries;
+        int next;
+
+        @Setup(Level.Trial)
+        public void createRoster() {
+            TransferModel[] players = Rosters.create(size, distribution, Algorithms.BY_NAME);
+            registry = new PlayerRegistry();
+            for (TransferModel player : players) {
+                registry.add(player);
+            }
+            queries = new String[Math.min(size, 1024)];
+            for (int i = 0; i < queries.length; i++) {
+                queries[i] = players[(int) ((long) i * size / queries.length)].getPlayerName();
+            }
+            Arrays.sort(players, Algorithms.BY_NAME);
+            sortedList = new LinkedList<>(Arrays.asList(players));
+        }
+
+        String nextQuery() {
+            String query = queries[next];
+            next = (next + 1) % queries.length;
+            return query;
+        }
+    }
+
+    @Benchmark
+    public int legacyBinarySearchByName(Input input) {
+        return Algorithms.binarySearchByName(input.sortedList, input.nextQuery());
+    }
+
+    @Benchmark
+    public List<TransferModel> findByName(Input input) {
+        return input.registry.findByName(input.nextQuery());
+    }
+
+    @Benchmark
+    public List<String> suggestNames(Input input) {
+        String query = input.nextQuery();
+        return input.registry.suggestNames(query.substring(0, Math.min(3, query.length())), 8);
+    }
+
+    @Benchmark
+    public List<TransferModel> findSimilarNames(Input input) {
+        return input.registry.findSimilarNames(input.nextQuery(), 1);
+    }
+}
@@ -0,0 +1,150 @@
+package com.transfermarket.bench;
+
+import com.transfermarket.controller.datastructure.Algorithms;
+import com.transfermarket.controller.datastructure.SortKey;
+import com.transfermarket.model.PlayerField;
+import com.transfermarket.model.TransferModel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the current sorts of {@link Algorithms}, which run in O(n log n) or
+ * linear time, from 10 to 10M players on random, presorted, reverse-sorted and
+ * duplicate-heavy inputs. Every benchmark sorts a fresh copy of the input, so
+ * the {@code copyArrayList} baseline should be subtracted to get the sorting
+ * time alone.
+ *
+ * The legacy LinkedList sorts (merge, selection and insertion sort) are
+ * measured separately in {@link QuadraticSortBenchmark}: their index-based
+ * access makes them quadratic, so they cannot finish at these sizes.
+ *
+ * @author Samir Adhikari
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g", "--add-modules", "jdk.incubator.vector"})
+public class SortBenchmark {
+
+    /**
+     * A roster arranged relative to the key a benchmark sorts by. JMH only
+     * accepts parameters in state classes, so the base class is one too.
+     */
+    @State(Scope.Benchmark)
+    public abstract static class Input {
+
+        @Param({"10", "1000", "100000", "10000000"})
+        public int size;
+
+        @Param({"RANDOM", "SORTED", "REVERSED", "DUPLICATES"})
+        public Rosters.Distribution distribution;
+
+        TransferModel[] players;
+
+        @Setup(Level.Trial)
+        public void createRoster() {
+            players = Rosters.create(size, distribution, key());
+        }
+
+        abstract Comparator<TransferModel> key();
+
+        List<TransferModel> arrayCopy() {
+            return new ArrayList<>(Arrays.asList(players));
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class AgeInput extends Input {
+
+        @Override
+        Comparator<TransferModel> key() {
+            return Algorithms.BY_AGE;
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class NameInput extends Input {
+
+        @Override
+        Comparator<TransferModel> key() {
+            return Algorithms.BY_NAME;
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class GoalContributionInput extends Input {
+
+        @Override
+        Comparator<TransferModel> key() {
+            return Algorithms.BY_GOAL_CONTRIBUTION;
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class MarketValueInput extends Input {
+
+        @Override
+        Comparator<TransferModel> key() {
+            return Algorithms.BY_MARKET_VALUE;
+        }
+    }
+
+    @Benchmark
+    public List<TransferModel> copyArrayList(AgeInput input) {
+        return input.arrayCopy();
+    }
+
+    @Benchmark
+    public List<TransferModel> sortByAge(AgeInput input) {
+        return Algorithms.sortByAge(input.arrayCopy());
+    }
+
+    @Benchmark
+    public List<TransferModel> comparisonSortByAge(AgeInput input) {
+        return Algorithms.sort(input.arrayCopy(), Algorithms.BY_AGE);
+    }
+
+    @Benchmark
+    public List<TransferModel> jdkSortByAge(AgeInput input) {
+        List<TransferModel> list = input.arrayCopy();
+        list.sort(Algorithms.BY_AGE);
+        return list;
+    }
+
+    @Benchmark
+    public List<TransferModel> sortByName(NameInput input) {
+        return Algorithms.sortByName(input.arrayCopy());
+    }
+
+    @Benchmark
+    public List<TransferModel> sortByGoalContribution(GoalContributionInput input) {
+        return Algorithms.sortByGoalContribution(input.arrayCopy());
+    }
+
+    @Benchmark
+    public List<TransferModel> sortByNationalityThenMarketValue(MarketValueInput input) {
+        return Algorithms.sortByKeys(input.arrayCopy(),
+                SortKey.ascending(PlayerField.NATIONALITY), SortKey.descending(PlayerField.MARKET_VALUE));
+    }
+
+    @Benchmark
+    public List<TransferModel> topTwentyByMarketValue(MarketValueInput input) {
+        return Algorithms.topByMarketValue(Arrays.asList(input.players), 20);
+    }
+}
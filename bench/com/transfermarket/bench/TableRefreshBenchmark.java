@@ -0,0 +1,124 @@
+package com.transfermarket.bench;
+
+import com.transfermarket.controller.datastructure.Algorithms;
+import com.transfermarket.model.TransferModel;
+import com.transfermarket.view.PlayerTableModel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.swing.JTable;
+import javax.swing.table.DefaultTableModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a full refresh of the transfer table: the former
+ * {@code setRowCount(0)} and {@code addRow} loop on a DefaultTableModel, which
+ * fires one event per row, against the single-event updates of
+ * {@link PlayerTableModel}: loading a roster with
+ * {@link PlayerTableModel#addPlayers}, as the synthetic players are loaded at
+ * startup, and re-sorting with {@link PlayerTableModel#setOrder}, either from
+ * the sorted players the registry returns or from a ready row permutation.
+ * Each model is attached to a JTable, so every event pays for the table's own
+ * bookkeeping as it does in the application; nothing is painted, since the
+ * runs are headless.
+ *
+ * @author Samir Adhikari
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-Djava.awt.headless=true"})
+public class TableRefreshBenchmark {
+
+    private static final String[] COLUMN_NAMES = {" Player ID", " Player Name", " Position", " Nationality",
+        " Age", " Market Value($)", " Contract Duration", " G/A"};
+
+    @State(Scope.Benchmark)
+    public static class Input {
+
+        @Param({"10000", "100000", "1000000"})
+        public int size;
+
+        List<TransferModel> players;
+        List<TransferModel> playersByName;
+        int[] rowsInOrder;
+        int[] rowsByName;
+        DefaultTableModel defaultModel;
+        PlayerTableModel playerModel;
+        boolean sortedByName;
+
+        @Setup(Level.Trial)
+        public void createTables() {
+            TransferModel[] roster = Rosters.create(size, Rosters.Distribution.RANDOM, Algorithms.BY_NAME);
+            players = Arrays.asList(roster);
+            playersByName = Algorithms.sortByName(new ArrayList<>(players));
+            defaultModel = new DefaultTableModel(COLUMN_NAMES, 0);
+            new JTable(defaultModel);
+            playerModel = new PlayerTableModel();
+            playerModel.addPlayers(players);
+            new JTable(playerModel);
+            // Rows are still in store order here, so a player's row is its store row.
+            rowsInOrder = new int[size];
+            rowsByName = new int[size];
+            for (int row = 0; row < size; row++) {
+                rowsInOrder[row] = row;
+                rowsByName[row] = playerModel.findRow(playersByName.get(row).getPlayerId());
+            }
+        }
+    }
+
+    @Benchmark
+    public int legacyRowByRowRefresh(Input input) {
+        DefaultTableModel model = input.defaultModel;
+        model.setRowCount(0);
+        for (TransferModel player : input.players) {
+            model.addRow(new Object[]{
+                player.getPlayerId(),
+                player.getPlayerName(),
+                player.getPosition(),
+                player.getNationality(),
+                player.getAge(),
+                player.getMarketValue(),
+                player.getContractDuration(),
+                player.getGoalContribution()
+            });
+        }
+        return model.getRowCount();
+    }
+
+    @Benchmark
+    public int bulkLoad(Input input) {
+        PlayerTableModel model = new PlayerTableModel();
+        new JTable(model);
+        model.addPlayers(input.players);
+        return model.getRowCount();
+    }
+
+    @Benchmark
+    public int reorder(Input input) {
+        // Alternate between two orders so every call really changes the rows.
+        input.sortedByName = !input.sortedByName;
+        input.playerModel.setOrder(input.sortedByName ? input.playersByName : input.players);
+        return input.playerModel.getRowCount();
+    }
+
+    @Benchmark
+    public int reorderByPermutation(Input input) {
+        input.sortedByName = !input.sortedByName;
+        input.playerModel.setOrder(input.sortedByName ? input.rowsByName : input.rowsInOrder);
+        return input.playerModel.getRowCount();
+    }
+}
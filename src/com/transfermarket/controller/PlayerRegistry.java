@@ -0,0 +1,561 @@
+package com.transfermarket.controller;
+
+import com.transfermarket.controller.datastructure.Algorithms;
+import com.transfermarket.controller.datastructure.BkTree;
+import com.transfermarket.controller.datastructure.CompressedBitmap;
+import com.transfermarket.controller.datastructure.IntHashIndex;
+import com.transfermarket.controller.datastructure.OrderStatisticTree;
+import com.transfermarket.controller.datastructure.PlayerSketches;
+import com.transfermarket.controller.datastructure.PrefixTrie;
+import com.transfermarket.controller.datastructure.RangeIndex;
+import com.transfermarket.controller.datastructure.RunningStatistics;
+import com.transfermarket.controller.datastructure.StringDictionary;
+import com.transfermarket.model.TransferModel;
+import com.transfermarket.model.Vocabulary;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.function.IntConsumer;
+
+/**
+ * Keeps the indexes over the registered players up to date. Every add, update
+ * and delete performed on the transfer list is mirrored here, so sorted views
+ * of the roster are always available without re-sorting it.
+ *
+ * Players are identified by their player ID, which serves as the primary key.
+ * A registered player must not be modified in place; an update replaces the
+ * old {@link TransferModel} with a new one through
+ * {@link #update(TransferModel, TransferModel)}.
+ *
+ * Each registered player also occupies a slot: a small, stable row number that
+ * is reused after the player is removed. The bitmap indexes over the
+ * low-cardinality columns (position and nationality) store these slots, one
+ * bitmap per {@link Vocabulary} code, so filters combine them with bitwise
+ * AND/OR instead of comparing strings.
+ *
+ * The registry is thread-safe: every method synchronizes on it, so a
+ * background task can query or copy a sorted view while the Event Dispatch
+ * Thread registers changes, and query results are copies that stay valid
+ * after the lock is released. Copying a sorted view is O(n), so it takes the
+ * lock once per {@link #PROGRESS_STEP} players rather than for the whole copy
+ * and starts over if the registry changed in between; a caller on the Event
+ * Dispatch Thread waits for at most one such chunk. The live {@link RunningStatistics} are
+ * the exception and should only be read on the thread that modifies the
+ * registry.
+ *
+ * @author Samir Adhikari
+ */
+public class PlayerRegistry {
+
+    /**
+     * Number of players copied under one hold of the lock, and between
+     * progress reports, when copying a sorted view.
+     */
+    private static final int PROGRESS_STEP = 1 << 16;
+
+    // Sorted views; ties are broken by player ID so every player has a unique position.
+    private final OrderStatisticTree<TransferModel> byAge
+            = new OrderStatisticTree<>(Algorithms.BY_AGE.thenComparing(Algorithms.BY_PLAYER_ID));
+    private final OrderStatisticTree<TransferModel> byName
+            = new OrderStatisticTree<>(Algorithms.BY_NAME.thenComparing(Algorithms.BY_PLAYER_ID));
+    private final OrderStatisticTree<TransferModel> byGoalContribution
+            = new OrderStatisticTree<>(Algorithms.BY_GOAL_CONTRIBUTION.thenComparing(Algorithms.BY_PLAYER_ID));
+
+    // Range indexes for "between X and Y" queries; ages are answered by byAge.
+    private final RangeIndex<TransferModel> marketValueRange
+            = new RangeIndex<>(TransferModel::getMarketValue, Algorithms.BY_PLAYER_ID);
+    private final RangeIndex<TransferModel> contractDurationRange
+            = new RangeIndex<>(TransferModel::getContractDuration, Algorithms.BY_PLAYER_ID);
+
+    // Case-insensitive name lookup; several players may share a name.
+    private final Map<String, List<TransferModel>> byNameKey = new HashMap<>();
+
+    // Prefix index over the names for search-as-you-type suggestions.
+    private final PrefixTrie namePrefixes = new PrefixTrie();
+
+    // Edit-distance index over the name keys for fuzzy search.
+    private final BkTree nameDistances = new BkTree();
+
+    // Roster-wide figures, updated by delta on every add and remove.
+    private final RunningStatistics statistics = new RunningStatistics();
+
+    // Quantile and distinct-count sketches of the roster as of sketchedVersion; rebuilt when read after a change.
+    private PlayerSketches sketches;
+    private int sketchedVersion;
+
+    // Slot table: players by slot, free slots for reuse, and the slot of each player ID.
+    private TransferModel[] slots = new TransferModel[16];
+    private int slotCount; // Slots handed out so far, including freed ones.
+    private int[] freeSlots = new int[16];
+    private int freeSlotCount;
+    private final IntHashIndex slotById = new IntHashIndex(); // Primary-key index.
+
+    // Bitmap indexes over the slots, indexed by the dictionary code of the column value.
+    private CompressedBitmap[] byPosition = new CompressedBitmap[Vocabulary.POSITIONS.size()];
+    private CompressedBitmap[] byNationality = new CompressedBitmap[Vocabulary.NATIONALITIES.size()];
+
+    private int modificationCount; // Increased by every add and remove, so copies can detect changes.
+
+    /**
+     * Registers a new player in every index.
+     *
+     * @param player The player to register.
+     * @throws IllegalArgumentException If a player with the same ID is
+     * already registered.
+     */
+    public synchronized void add(TransferModel player) {
+        if (slotById.containsKey(player.getPlayerId())) {
+            throw new IllegalArgumentException("Player ID already exists: " + player.getPlayerId());
+        }
+        modificationCount++;
+        byAge.add(player);
+        byName.add(player);
+        byGoalContribution.add(player);
+        marketValueRange.add(player);
+        contractDurationRange.add(player);
+        String key = nameKey(player.getPlayerName());
+        byNameKey.computeIfAbsent(key, k -> new ArrayList<>(1)).add(player);
+        namePrefixes.add(player.getPlayerName());
+        nameDistances.add(key);
+
+        statistics.add(player);
+
+        int slot = allocateSlot(player);
+        byPosition = addToBitmap(byPosition, player.getPositionCode(), slot);
+        byNationality = addToBitmap(byNationality, player.getNationalityCode(), slot);
+    }
+
+    /**
+     * Replaces a registered player with its updated version in every index.
+     * The update either succeeds completely or leaves the registry unchanged:
+     * the updated player is checked before anything is removed, and if
+     * registering it still fails, the previous player is registered again.
+     *
+     * @param previous The player as it is currently registered.
+     * @param updated The updated player.
+     * @throws IllegalArgumentException If the updated player takes the ID of
+     * another registered player.
+     */
+    public synchronized void update(TransferModel previous, TransferModel updated) {
+        if (updated.getPlayerId() != previous.getPlayerId() && slotById.containsKey(updated.getPlayerId())) {
+            throw new IllegalArgumentException("Player ID already exists: " + updated.getPlayerId());
+        }
+        remove(previous);
+        try {
+            add(updated);
+        } catch (RuntimeException e) {
+            // Undo whatever part of the updated player was registered, then restore the previous one
+            remove(updated);
+            add(previous);
+            throw e;
+        }
+    }
+
+    /**
+     * Removes a player from every index.
+     *
+     * @param player The player to remove.
+     */
+    public synchronized void remove(TransferModel player) {
+        modificationCount++;
+        byAge.remove(player);
+        byName.remove(player);
+        byGoalContribution.remove(player);
+        marketValueRange.remove(player);
+        contractDurationRange.remove(player);
+
+        String key = nameKey(player.getPlayerName());
+        List<TransferModel> namesakes = byNameKey.get(key);
+        if (namesakes != null) {
+            namesakes.remove(player);
+            if (namesakes.isEmpty()) {
+                byNameKey.remove(key);
+            }
+        }
+        namePrefixes.remove(player.getPlayerName());
+        nameDistances.remove(key);
+
+        int slot = slotById.remove(player.getPlayerId());
+        if (slot != IntHashIndex.NO_VALUE) {
+            statistics.remove(player);
+            removeFromBitmap(byPosition, player.getPositionCode(), slot);
+            removeFromBitmap(byNationality, player.getNationalityCode(), slot);
+            slots[slot] = null;
+            if (freeSlotCount == freeSlots.length) {
+                freeSlots = Arrays.copyOf(freeSlots, freeSlotCount * 2);
+            }
+            freeSlots[freeSlotCount++] = slot;
+        }
+    }
+
+    /**
+     * Retrieves the number of registered players.
+     *
+     * @return The number of players.
+     */
+    public synchronized int size() {
+        return byAge.size();
+    }
+
+    /**
+     * Retrieves the live roster statistics. They are updated in O(1) on every
+     * add, update and remove, so reading them never rescans the roster. The
+     * returned object must not be modified by the caller.
+     *
+     * @return The running statistics of the registered players.
+     */
+    public synchronized RunningStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Retrieves approximate quantile and distinct-count sketches of the
+     * registered players. Sketches cannot forget a value, so instead of being
+     * fed on every add and update they are rebuilt, in O(n), by the first
+     * read after a change, and describe exactly the current roster; reads in
+     * between return the same object. The returned object is never modified
+     * afterwards, so it can be read on any thread; the caller must not modify
+     * it, but may merge it into other sketches.
+     *
+     * @return The sketches of the registered players.
+     */
+    public synchronized PlayerSketches getSketches() {
+        if (sketches == null || sketchedVersion != modificationCount) {
+            PlayerSketches rebuilt = new PlayerSketches();
+            for (int slot = 0; slot < slotCount; slot++) {
+                if (slots[slot] != null) {
+                    rebuilt.add(slots[slot]);
+                }
+            }
+            sketches = rebuilt;
+            sketchedVersion = modificationCount;
+        }
+        return sketches;
+    }
+
+    /**
+     * Checks whether a player with the given ID is registered, in O(1)
+     * expected time.
+     *
+     * @param playerId The player ID to look for.
+     * @return true if the ID is taken, false otherwise.
+     */
+    public synchronized boolean containsId(int playerId) {
+        return slotById.containsKey(playerId);
+    }
+
+    /**
+     * Finds the player with the given ID in O(1) expected time.
+     *
+     * @param playerId The player ID to look for.
+     * @return The registered player, or null if there is none.
+     */
+    public synchronized TransferModel findById(int playerId) {
+        int slot = slotById.get(playerId);
+        return slot == IntHashIndex.NO_VALUE ? null : slots[slot];
+    }
+
+    /**
+     * Finds the players with the given name, ignoring case, in O(1) expected
+     * time.
+     *
+     * @param name The player name to look for.
+     * @return A copy of the matching players in registration order, or an
+     * empty list if there are none.
+     */
+    public synchronized List<TransferModel> findByName(String name) {
+        List<TransferModel> namesakes = byNameKey.get(nameKey(name));
+        return namesakes == null ? Collections.emptyList() : new ArrayList<>(namesakes);
+    }
+
+    /**
+     * Lists the players whose market value lies between two bounds, both
+     * inclusive, in O(log n + k).
+     *
+     * @param min The lowest market value.
+     * @param max The highest market value.
+     * @return The matching players, cheapest first.
+     */
+    public synchronized List<TransferModel> findByMarketValue(double min, double max) {
+        return marketValueRange.between(min, max);
+    }
+
+    /**
+     * Lists the players whose age lies between two bounds, both inclusive, in
+     * O(log n + k): the walk starts at the first player of age {@code min} in
+     * the age view and stops at the first one older than {@code max}.
+     *
+     * @param min The lowest age.
+     * @param max The highest age.
+     * @return The matching players, youngest first and by player ID within
+     * an age, or an empty list if {@code min > max}.
+     */
+    public synchronized List<TransferModel> findByAge(int min, int max) {
+        List<TransferModel> players = new ArrayList<>();
+        Iterator<TransferModel> iterator = byAge.iterator(byAge.countWhile(player -> player.getAge() < min));
+        while (iterator.hasNext()) {
+            TransferModel player = iterator.next();
+            if (player.getAge() > max) {
+                break;
+            }
+            players.add(player);
+        }
+        return players;
+    }
+
+    /**
+     * Lists the players whose contract duration lies between two bounds, both
+     * inclusive, in O(log n + k).
+     *
+     * @param min The shortest contract duration.
+     * @param max The longest contract duration.
+     * @return The matching players, shortest contract first.
+     */
+    public synchronized List<TransferModel> findByContractDuration(int min, int max) {
+        return contractDurationRange.between(min, max);
+    }
+
+    /**
+     * Finds the players whose names are within a given edit distance of the
+     * searched name, ignoring case. Backed by a BK-tree, so only a small part
+     * of the names is compared for small distances.
+     *
+     * @param name The (possibly misspelled) player name.
+     * @param maxDistance The largest number of single-character edits to
+     * accept.
+     * @return The matching players, closest names first.
+     */
+    public synchronized List<TransferModel> findSimilarNames(String name, int maxDistance) {
+        List<TransferModel> players = new ArrayList<>();
+        for (BkTree.Match match : nameDistances.search(nameKey(name), maxDistance)) {
+            List<TransferModel> namesakes = byNameKey.get(match.getWord());
+            if (namesakes != null) {
+                players.addAll(namesakes);
+            }
+        }
+        return players;
+    }
+
+    /**
+     * Lists the players that play one of the given positions and come from one
+     * of the given nationalities, for example "CB or CDM from Spain or
+     * Portugal". The answer is computed by OR-ing the bitmaps of the values in
+     * each group and AND-ing the two results, so no player is inspected until
+     * the matching slots are known.
+     *
+     * @param positions The accepted positions, or an empty collection to
+     * accept every position.
+     * @param nationalities The accepted nationalities, or an empty collection
+     * to accept every nationality.
+     * @return The matching players in slot order.
+     */
+    public synchronized List<TransferModel> filter(Collection<String> positions, Collection<String> nationalities) {
+        CompressedBitmap matches;
+        if (positions.isEmpty() && nationalities.isEmpty()) {
+            matches = null;
+        } else if (positions.isEmpty()) {
+            matches = union(byNationality, Vocabulary.NATIONALITIES, nationalities);
+        } else if (nationalities.isEmpty()) {
+            matches = union(byPosition, Vocabulary.POSITIONS, positions);
+        } else {
+            matches = CompressedBitmap.and(union(byPosition, Vocabulary.POSITIONS, positions),
+                    union(byNationality, Vocabulary.NATIONALITIES, nationalities));
+        }
+
+        List<TransferModel> players = new ArrayList<>();
+        if (matches == null) {
+            for (int slot = 0; slot < slotCount; slot++) {
+                if (slots[slot] != null) {
+                    players.add(slots[slot]);
+                }
+            }
+        } else {
+            matches.forEach(slot -> players.add(slots[slot]));
+        }
+        return players;
+    }
+
+    /**
+     * Suggests registered player names that start with the given prefix,
+     * ignoring case.
+     *
+     * @param prefix The text typed so far.
+     * @param limit The maximum number of suggestions.
+     * @return Up to {@code limit} distinct names in alphabetical order.
+     */
+    public synchronized List<String> suggestNames(String prefix, int limit) {
+        return namePrefixes.suggest(prefix, limit);
+    }
+
+    /**
+     * Lists the registered players sorted by age in ascending order.
+     *
+     * @return A new list of the players sorted by age.
+     */
+    public List<TransferModel> playersByAge() {
+        return copy(byAge, percent -> {
+        });
+    }
+
+    /**
+     * Lists the registered players sorted by age, reporting progress, for
+     * callers on a background thread.
+     *
+     * @param progress Receives the percentage of players copied so far.
+     * @return A new list of the players sorted by age.
+     * @throws CancellationException If the calling thread is interrupted.
+     */
+    public List<TransferModel> playersByAge(IntConsumer progress) {
+        return copy(byAge, progress);
+    }
+
+    /**
+     * Lists the registered players sorted by name in ascending order.
+     *
+     * @return A new list of the players sorted by name.
+     */
+    public List<TransferModel> playersByName() {
+        return copy(byName, percent -> {
+        });
+    }
+
+    /**
+     * Lists the registered players sorted by name, reporting progress, for
+     * callers on a background thread.
+     *
+     * @param progress Receives the percentage of players copied so far.
+     * @return A new list of the players sorted by name.
+     * @throws CancellationException If the calling thread is interrupted.
+     */
+    public List<TransferModel> playersByName(IntConsumer progress) {
+        return copy(byName, progress);
+    }
+
+    /**
+     * Lists the registered players sorted by goal contributions in ascending
+     * order.
+     *
+     * @return A new list of the players sorted by goal contributions.
+     */
+    public List<TransferModel> playersByGoalContribution() {
+        return copy(byGoalContribution, percent -> {
+        });
+    }
+
+    /**
+     * Lists the registered players sorted by goal contributions, reporting
+     * progress, for callers on a background thread.
+     *
+     * @param progress Receives the percentage of players copied so far.
+     * @return A new list of the players sorted by goal contributions.
+     * @throws CancellationException If the calling thread is interrupted.
+     */
+    public List<TransferModel> playersByGoalContribution(IntConsumer progress) {
+        return copy(byGoalContribution, progress);
+    }
+
+    /**
+     * Copies a sorted view into a new list, {@link #PROGRESS_STEP} players per
+     * hold of the lock, so other threads are not held up for the whole copy.
+     * Each chunk resumes at its position in the tree in O(log n); if the
+     * registry was modified since the previous chunk, the copy starts over.
+     * After every chunk it reports the percentage copied and gives up if the
+     * calling thread has been interrupted.
+     */
+    private List<TransferModel> copy(OrderStatisticTree<TransferModel> view, IntConsumer progress) {
+        List<TransferModel> players = null;
+        int version = 0;
+        int size = 0;
+        do {
+            synchronized (this) {
+                if (players == null || version != modificationCount) {
+                    version = modificationCount;
+                    size = view.size();
+                    players = new ArrayList<>(size);
+                }
+                Iterator<TransferModel> chunk = view.iterator(players.size());
+                for (int i = 0; i < PROGRESS_STEP && chunk.hasNext(); i++) {
+                    players.add(chunk.next());
+                }
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                throw new CancellationException("Copy of the sorted players was interrupted");
+            }
+            progress.accept(size == 0 ? 100 : (int) ((long) players.size() * 100 / size));
+        } while (players.size() < size);
+        return players;
+    }
+
+    /**
+     * Gives a player a slot, reusing a freed one when possible.
+     */
+    private int allocateSlot(TransferModel player) {
+        int slot;
+        if (freeSlotCount > 0) {
+            slot = freeSlots[--freeSlotCount];
+        } else {
+            if (slotCount == slots.length) {
+                slots = Arrays.copyOf(slots, slotCount * 2);
+            }
+            slot = slotCount++;
+        }
+        slots[slot] = player;
+        slotById.put(player.getPlayerId(), slot);
+        return slot;
+    }
+
+    /**
+     * Adds a slot to the bitmap of a code, growing the index when the
+     * dictionary has gained new codes.
+     */
+    private static CompressedBitmap[] addToBitmap(CompressedBitmap[] index, int code, int slot) {
+        if (code == Vocabulary.NO_CODE) {
+            return index;
+        }
+        if (code >= index.length) {
+            index = Arrays.copyOf(index, Math.max(code + 1, index.length * 2));
+        }
+        if (index[code] == null) {
+            index[code] = new CompressedBitmap();
+        }
+        index[code].add(slot);
+        return index;
+    }
+
+    private static void removeFromBitmap(CompressedBitmap[] index, int code, int slot) {
+        if (code != Vocabulary.NO_CODE && code < index.length && index[code] != null) {
+            index[code].remove(slot);
+        }
+    }
+
+    /**
+     * ORs together the bitmaps of the given column values.
+     */
+    private static CompressedBitmap union(CompressedBitmap[] index, StringDictionary dictionary, Collection<String> values) {
+        CompressedBitmap result = new CompressedBitmap();
+        for (String value : values) {
+            int code = value == null ? StringDictionary.NOT_FOUND : dictionary.codeOf(value);
+            if (code != StringDictionary.NOT_FOUND && code < index.length && index[code] != null) {
+                result = CompressedBitmap.or(result, index[code]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Normalises a player name into the key used by the name index. Accents
+     * are composed first, so a name typed with combining accents finds the
+     * same players as its precomposed spelling, as it does in the name order.
+     */
+    private static String nameKey(String name) {
+        return name == null ? "" : Normalizer.normalize(name.trim(), Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,262 @@
+package com.transfermarket.controller.datastructure;
+
+import com.transfermarket.model.PlayerField;
+import com.transfermarket.model.TransferModel;
+import com.transfermarket.model.Vocabulary;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Computes per-group statistics (count, sum, mean, minimum and maximum of the
+ * market value and the goal contribution) with the players grouped by
+ * position, nationality, both or neither.
+ *
+ * Position and nationality are dictionary-coded, so a group is identified by
+ * its pair of codes and the accumulators are plain arrays indexed by
+ * {@code (positionCode + 1) * nationalityWidth + (nationalityCode + 1)}. A
+ * grouping is therefore a single pass over the rows with no hashing and no
+ * allocation per row. {@link #parallelGroupBy(ColumnarPlayerStore, PlayerField...)}
+ * splits the rows among fork/join tasks that each fill their own accumulator
+ * and merges the partial results.
+ *
+ * @author Samir Adhikari
+ */
+public final class Aggregations {
+
+    /**
+     * Rows per task below which the parallel grouping stops splitting.
+     */
+    static final int PARALLEL_CHUNK = 1 << 16;
+
+    private Aggregations() {
+    }
+
+    /**
+     * Groups players and aggregates their market values and goal
+     * contributions in one pass.
+     *
+     * @param players The players to aggregate.
+     * @param fields The attributes to group by: {@link PlayerField#POSITION},
+     * {@link PlayerField#NATIONALITY}, both, or none for a single total.
+     * @return The non-empty groups, ordered by position code and then
+     * nationality code.
+     */
+    public static List<GroupStatistics> groupBy(Iterable<TransferModel> players, PlayerField... fields) {
+        Grouping grouping = new Grouping(Vocabulary.POSITIONS, Vocabulary.NATIONALITIES, fields);
+        Accumulator accumulator = new Accumulator(grouping.groups());
+        for (TransferModel player : players) {
+            accumulator.add(grouping.indexOf(player.getPositionCode(), player.getNationalityCode()),
+                    player.getMarketValue(), player.getGoalContribution());
+        }
+        return accumulator.results(grouping);
+    }
+
+    /**
+     * Groups the rows of a columnar store and aggregates their market values
+     * and goal contributions in one sequential pass over the columns.
+     *
+     * @param store The rows to aggregate.
+     * @param fields The attributes to group by: {@link PlayerField#POSITION},
+     * {@link PlayerField#NATIONALITY}, both, or none for a single total.
+     * @return The non-empty groups, ordered by position code and then
+     * nationality code.
+     */
+    public static List<GroupStatistics> groupBy(ColumnarPlayerStore store, PlayerField... fields) {
+        Grouping grouping = new Grouping(store.getPositions(), store.getNationalities(), fields);
+        return accumulate(store, grouping, 0, store.size()).results(grouping);
+    }
+
+    /**
+     * Groups the rows of a columnar store like
+     * {@link #groupBy(ColumnarPlayerStore, PlayerField...)}, but splits the
+     * rows among the threads of the common fork/join pool. Each task
+     * aggregates its rows into a private accumulator, and the partial results
+     * are merged pairwise, so the threads share no mutable state.
+     *
+     * @param store The rows to aggregate. Must not be modified during the
+     * call.
+     * @param fields The attributes to group by.
+     * @return The non-empty groups, ordered by position code and then
+     * nationality code.
+     */
+    public static List<GroupStatistics> parallelGroupBy(ColumnarPlayerStore store, PlayerField... fields) {
+        return parallelGroupBy(store, ForkJoinPool.commonPool(), fields);
+    }
+
+    /**
+     * Groups the rows of a columnar store like
+     * {@link #parallelGroupBy(ColumnarPlayerStore, PlayerField...)}, on the
+     * threads of the given pool.
+     */
+    static List<GroupStatistics> parallelGroupBy(ColumnarPlayerStore store, ForkJoinPool pool, PlayerField... fields) {
+        Grouping grouping = new Grouping(store.getPositions(), store.getNationalities(), fields);
+        if (store.size() < 2 * PARALLEL_CHUNK || pool.getParallelism() < 2) {
+            return accumulate(store, grouping, 0, store.size()).results(grouping);
+        }
+        return pool.invoke(new GroupTask(store, grouping, 0, store.size())).results(grouping);
+    }
+
+    private static Accumulator accumulate(ColumnarPlayerStore store, Grouping grouping, int from, int to) {
+        Accumulator accumulator = new Accumulator(grouping.groups());
+        for (int row = from; row < to; row++) {
+            accumulator.add(grouping.indexOf(store.getPositionCode(row), store.getNationalityCode(row)),
+                    store.getMarketValue(row), store.getGoalContribution(row));
+        }
+        return accumulator;
+    }
+
+    /**
+     * Aggregates a range of rows, splitting it in halves until it is small
+     * enough, and merges the halves' accumulators.
+     */
+    private static final class GroupTask extends RecursiveTask<Accumulator> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient ColumnarPlayerStore store;
+        private final transient Grouping grouping;
+        private final int from;
+        private final int to;
+
+        GroupTask(ColumnarPlayerStore store, Grouping grouping, int from, int to) {
+            this.store = store;
+            this.grouping = grouping;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Accumulator compute() {
+            if (to - from <= PARALLEL_CHUNK) {
+                return accumulate(store, grouping, from, to);
+            }
+            int mid = (from + to) >>> 1;
+            GroupTask left = new GroupTask(store, grouping, from, mid);
+            left.fork();
+            Accumulator right = new GroupTask(store, grouping, mid, to).compute();
+            return left.join().merge(right);
+        }
+    }
+
+    /**
+     * Maps a pair of position and nationality codes to a dense group index.
+     * Attributes that are not grouped by collapse to a single value; missing
+     * values ({@link Vocabulary#NO_CODE}) form a group of their own.
+     */
+    private static final class Grouping {
+
+        private final StringDictionary positions;
+        private final StringDictionary nationalities;
+        private final boolean byPosition;
+        private final boolean byNationality;
+        private final int positionWidth;
+        private final int nationalityWidth;
+
+        Grouping(StringDictionary positions, StringDictionary nationalities, PlayerField... fields) {
+            boolean position = false;
+            boolean nationality = false;
+            for (PlayerField field : fields) {
+                if (field == PlayerField.POSITION) {
+                    position = true;
+                } else if (field == PlayerField.NATIONALITY) {
+                    nationality = true;
+                } else {
+                    throw new IllegalArgumentException("Cannot group by " + field + ".");
+                }
+            }
+            this.positions = positions;
+            this.nationalities = nationalities;
+            this.byPosition = position;
+            this.byNationality = nationality;
+            // One extra value for missing codes. Codes added later than this snapshot are not expected.
+            this.positionWidth = position ? positions.size() + 1 : 1;
+            this.nationalityWidth = nationality ? nationalities.size() + 1 : 1;
+        }
+
+        int groups() {
+            return positionWidth * nationalityWidth;
+        }
+
+        int indexOf(int positionCode, int nationalityCode) {
+            int p = byPosition ? positionCode + 1 : 0;
+            int n = byNationality ? nationalityCode + 1 : 0;
+            return p * nationalityWidth + n;
+        }
+
+        String positionOf(int group) {
+            int p = group / nationalityWidth;
+            return byPosition && p > 0 ? positions.decode(p - 1) : null;
+        }
+
+        String nationalityOf(int group) {
+            int n = group % nationalityWidth;
+            return byNationality && n > 0 ? nationalities.decode(n - 1) : null;
+        }
+    }
+
+    /**
+     * Running totals for every group, in parallel primitive arrays.
+     */
+    private static final class Accumulator {
+
+        private final long[] counts;
+        private final double[] valueSums;
+        private final double[] valueMins;
+        private final double[] valueMaxes;
+        private final long[] goalSums;
+        private final int[] goalMins;
+        private final int[] goalMaxes;
+
+        Accumulator(int groups) {
+            counts = new long[groups];
+            valueSums = new double[groups];
+            valueMins = new double[groups];
+            valueMaxes = new double[groups];
+            goalSums = new long[groups];
+            goalMins = new int[groups];
+            goalMaxes = new int[groups];
+            Arrays.fill(valueMins, Double.POSITIVE_INFINITY);
+            Arrays.fill(valueMaxes, Double.NEGATIVE_INFINITY);
+            Arrays.fill(goalMins, Integer.MAX_VALUE);
+            Arrays.fill(goalMaxes, Integer.MIN_VALUE);
+        }
+
+        void add(int group, double marketValue, int goalContribution) {
+            counts[group]++;
+            valueSums[group] += marketValue;
+            valueMins[group] = Math.min(valueMins[group], marketValue);
+            valueMaxes[group] = Math.max(valueMaxes[group], marketValue);
+            goalSums[group] += goalContribution;
+            goalMins[group] = Math.min(goalMins[group], goalContribution);
+            goalMaxes[group] = Math.max(goalMaxes[group], goalContribution);
+        }
+
+        Accumulator merge(Accumulator other) {
+            for (int g = 0; g < counts.length; g++) {
+                counts[g] += other.counts[g];
+                valueSums[g] += other.valueSums[g];
+                valueMins[g] = Math.min(valueMins[g], other.valueMins[g]);
+                valueMaxes[g] = Math.max(valueMaxes[g], other.valueMaxes[g]);
+                goalSums[g] += other.goalSums[g];
+                goalMins[g] = Math.min(goalMins[g], other.goalMins[g]);
+                goalMaxes[g] = Math.max(goalMaxes[g], other.goalMaxes[g]);
+            }
+            return this;
+        }
+
+        List<GroupStatistics> results(Grouping grouping) {
+            List<GroupStatistics> results = new ArrayList<>();
+            for (int g = 0; g < counts.length; g++) {
+                if (counts[g] > 0) {
+                    results.add(new GroupStatistics(grouping.positionOf(g), grouping.nationalityOf(g),
+                            new GroupStatistics.Summary(counts[g], valueSums[g], valueMins[g], valueMaxes[g]),
+                            new GroupStatistics.Summary(counts[g], goalSums[g], goalMins[g], goalMaxes[g])));
+                }
+            }
+            return results;
+        }
+    }
+}
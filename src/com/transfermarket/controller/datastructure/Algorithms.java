@@ -1,7 +1,23 @@
 package com.transfermarket.controller.datastructure;
 
+import com.transfermarket.model.PlayerField;
 import com.transfermarket.model.TransferModel;
+import com.transfermarket.model.Vocabulary;
+import com.transfermarket.util.NameCollator;
+import java.text.CollationKey;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
 
 /**
  *
@@ -9,6 +25,64 @@ import java.util.LinkedList;
  */
 public class Algorithms {
 
+    /**
+     * Orders players by player ID in ascending order.
+     */
+    public static final Comparator<TransferModel> BY_PLAYER_ID = Comparator.comparingInt(TransferModel::getPlayerId);
+
+    /**
+     * Orders players by age in ascending order.
+     */
+    public static final Comparator<TransferModel> BY_AGE = Comparator.comparingInt(TransferModel::getAge);
+
+    /**
+     * Orders players by name in ascending alphabetical order, using the
+     * locale-aware, case-insensitive collation of {@link NameCollator}. Only
+     * the cached collation keys are compared.
+     */
+    public static final Comparator<TransferModel> BY_NAME = Comparator.comparing(TransferModel::getPlayerNameKey);
+
+    /**
+     * Orders players by goal contributions in ascending order.
+     */
+    public static final Comparator<TransferModel> BY_GOAL_CONTRIBUTION = Comparator.comparingInt(TransferModel::getGoalContribution);
+
+    /**
+     * Orders players by market value in ascending order.
+     */
+    public static final Comparator<TransferModel> BY_MARKET_VALUE = Comparator.comparingDouble(TransferModel::getMarketValue);
+
+    /**
+     * Ranges shorter than this are sorted with insertion sort inside the merge
+     * sort, where it beats further splitting.
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    /**
+     * Smallest amount of work a single fork/join task is given; below this the
+     * task overhead outweighs the gain from splitting further.
+     */
+    private static final int MIN_PARALLEL_GRANULARITY = 1 << 13;
+
+    /**
+     * Arrays with at least this many elements are sorted with the parallel
+     * fork/join merge sort. Can be changed with
+     * {@link #setParallelThreshold(int)}.
+     */
+    private static volatile int parallelThreshold = 1 << 16;
+
+    /**
+     * Integer keys whose range (max - min + 1) is at most this size, or at most
+     * twice the number of elements, are sorted with a single counting sort
+     * pass; wider ranges fall back to an LSD radix sort.
+     */
+    private static final int COUNTING_SORT_MIN_RANGE = 1 << 8;
+
+    /**
+     * Number of bits consumed by each pass of the LSD radix sort.
+     */
+    private static final int RADIX_BITS = 8;
+
     /**
      * Sorts a LinkedList of TransferModel objects by age using the merge sort
      * algorithm.
@@ -92,7 +166,7 @@ public class Algorithms {
             // Inner loop to find the actual minimum player name in the unsorted part of the list.
             for (int j = i + 1; j < list.size(); j++) {
                 // Compare the player name of the current element with the element at minIndex.
-                if (list.get(j).getPlayerName().compareTo(list.get(minIndex).getPlayerName()) < 0) {
+                if (BY_NAME.compare(list.get(j), list.get(minIndex)) < 0) {
                     minIndex = j; // Update minIndex if a smaller player name is found.
                 }
             }
@@ -138,7 +212,9 @@ public class Algorithms {
 
     /**
      * Searches for a specific player name in a sorted LinkedList of
-     * TransferModel objects using the binary search algorithm.
+     * TransferModel objects using the binary search algorithm. Names are
+     * compared with the same collation as {@link #BY_NAME}, so the list must be
+     * sorted with that order.
      *
      * @param transferList The sorted LinkedList of TransferModel objects to be
      * searched.
@@ -148,17 +224,18 @@ public class Algorithms {
     public static int binarySearchByName(LinkedList<TransferModel> transferList, String targetName) {
         int low = 0; // Starting index of the search range.
         int high = transferList.size() - 1; // Ending index of the search range.
+        CollationKey targetKey = NameCollator.keyOf(targetName); // Computed once for the whole search.
 
         // Continue searching as long as the search range is valid.
         while (low <= high) {
             int mid = (low + high) / 2; // Calculate the middle index of the current range.
-            String midName = transferList.get(mid).getPlayerName(); // Get the player name at the middle index.
+            int cmp = transferList.get(mid).getPlayerNameKey().compareTo(targetKey); // Compare the middle name with the target.
 
             // Check if the middle element matches the target player name.
-            if (midName.compareToIgnoreCase(targetName) == 0) {
+            if (cmp == 0) {
                 return mid; // Name found; return its index.
             } // If the target name is alphabetically after the middle name, search the right half.
-            else if (midName.compareToIgnoreCase(targetName) < 0) {
+            else if (cmp < 0) {
                 low = mid + 1; // Adjust the starting index to narrow the search range.
             } // If the target name is alphabetically before the middle name, search the left half.
             else {
@@ -170,4 +247,1063 @@ public class Algorithms {
         return -1;
     }
 
+    /**
+     * Sorts a list of TransferModel objects by age in linear time using a
+     * counting sort. Players of the same age keep their relative order.
+     *
+     * @param list The list of TransferModel objects to be sorted.
+     * @return The same list sorted by age in ascending order.
+     */
+    public static List<TransferModel> sortByAge(List<TransferModel> list) {
+        return sortByIntKey(list, TransferModel::getAge);
+    }
+
+    /**
+     * Sorts a list of TransferModel objects by player name using the
+     * array-backed merge sort. Players with the same name keep their relative
+     * order.
+     *
+     * @param list The list of TransferModel objects to be sorted.
+     * @return The same list sorted by player name in ascending alphabetical
+     * order.
+     */
+    public static List<TransferModel> sortByName(List<TransferModel> list) {
+        return sort(list, BY_NAME);
+    }
+
+    /**
+     * Sorts a list of TransferModel objects by goal contributions in linear
+     * time using a counting sort. Players with equal contributions keep their
+     * relative order.
+     *
+     * @param list The list of TransferModel objects to be sorted.
+     * @return The same list sorted by goal contributions in ascending order.
+     */
+    public static List<TransferModel> sortByGoalContribution(List<TransferModel> list) {
+        return sortByIntKey(list, TransferModel::getGoalContribution);
+    }
+
+    /**
+     * Sorts a list of TransferModel objects by player ID in linear time.
+     *
+     * @param list The list of TransferModel objects to be sorted.
+     * @return The same list sorted by player ID in ascending order.
+     */
+    public static List<TransferModel> sortByPlayerId(List<TransferModel> list) {
+        return sortByIntKey(list, TransferModel::getPlayerId);
+    }
+
+    /**
+     * Sorts a list of TransferModel objects by contract duration in linear
+     * time. Players with equal durations keep their relative order.
+     *
+     * @param list The list of TransferModel objects to be sorted.
+     * @return The same list sorted by contract duration in ascending order.
+     */
+    public static List<TransferModel> sortByContractDuration(List<TransferModel> list) {
+        return sortByIntKey(list, TransferModel::getContractDuration);
+    }
+
+    /**
+     * Sorts a list in place by an integer key without comparisons. The key is
+     * read once per element; bounded keys such as age are sorted with one
+     * counting pass plus a prefix sum, wider keys with an LSD radix sort.
+     * Elements with equal keys keep their relative order.
+     *
+     * @param <T> The type of the list elements.
+     * @param list The list to be sorted.
+     * @param key The function that extracts the integer sort key.
+     * @return The same list, sorted by ascending key.
+     */
+    public static <T> List<T> sortByIntKey(List<T> list, ToIntFunction<? super T> key) {
+        if (list.size() <= 1) {
+            return list;
+        }
+
+        @SuppressWarnings("unchecked")
+        T[] items = (T[]) list.toArray();
+        sortByIntKey(items, key);
+        writeBack(list, items);
+        return list;
+    }
+
+    /**
+     * Sorts an array in place by an integer key without comparisons, choosing
+     * counting sort or LSD radix sort from the observed key range.
+     *
+     * @param <T> The type of the array elements.
+     * @param items The array to be sorted.
+     * @param key The function that extracts the integer sort key.
+     */
+    public static <T> void sortByIntKey(T[] items, ToIntFunction<? super T> key) {
+        int n = items.length;
+        if (n <= 1) {
+            return;
+        }
+
+        // Extract every key once and find the key range in the same pass.
+        int[] keys = new int[n];
+        int min = Integer.MAX_VALUE, max = Integer.MIN_VALUE;
+        for (int i = 0; i < n; i++) {
+            int k = key.applyAsInt(items[i]);
+            keys[i] = k;
+            if (k < min) {
+                min = k;
+            }
+            if (k > max) {
+                max = k;
+            }
+        }
+
+        long range = (long) max - min + 1;
+        if (range == 1) {
+            return; // Every key is equal, nothing to do.
+        }
+        if (range <= Math.max(2L * n, COUNTING_SORT_MIN_RANGE)) {
+            countingSort(items, keys, min, (int) range);
+        } else {
+            radixSort(items, keys, min, max);
+        }
+    }
+
+    /**
+     * Stable counting sort of items by precomputed keys in [min, min + range).
+     */
+    private static <T> void countingSort(T[] items, int[] keys, int min, int range) {
+        int[] counts = new int[range + 1];
+        for (int k : keys) {
+            counts[k - min + 1]++;
+        }
+        // Prefix sum: counts[v] becomes the first output slot for key min + v.
+        for (int v = 0; v < range; v++) {
+            counts[v + 1] += counts[v];
+        }
+
+        T[] sorted = items.clone();
+        for (int i = 0; i < items.length; i++) {
+            sorted[counts[keys[i] - min]++] = items[i];
+        }
+        System.arraycopy(sorted, 0, items, 0, items.length);
+    }
+
+    /**
+     * Stable LSD radix sort of items by precomputed keys. Keys are offset by
+     * {@code min} so they can be treated as unsigned, and passes above the
+     * highest set bit of {@code max - min} are skipped.
+     */
+    private static <T> void radixSort(T[] items, int[] keys, int min, int max) {
+        int n = items.length;
+        int span = max - min; // Unsigned difference, fits in 32 bits.
+        int buckets = 1 << RADIX_BITS;
+        int mask = buckets - 1;
+
+        T[] itemBuffer = items.clone();
+        int[] keyBuffer = new int[n];
+        T[] fromItems = items, toItems = itemBuffer;
+        int[] fromKeys = keys, toKeys = keyBuffer;
+        int[] counts = new int[buckets + 1];
+
+        for (int shift = 0; shift < Integer.SIZE && (span >>> shift) != 0; shift += RADIX_BITS) {
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < n; i++) {
+                counts[(((fromKeys[i] - min) >>> shift) & mask) + 1]++;
+            }
+            for (int b = 0; b < buckets; b++) {
+                counts[b + 1] += counts[b];
+            }
+            for (int i = 0; i < n; i++) {
+                int slot = counts[((fromKeys[i] - min) >>> shift) & mask]++;
+                toItems[slot] = fromItems[i];
+                toKeys[slot] = fromKeys[i];
+            }
+
+            // Swap the roles of the arrays for the next pass.
+            T[] items2 = fromItems;
+            fromItems = toItems;
+            toItems = items2;
+            int[] keys2 = fromKeys;
+            fromKeys = toKeys;
+            toKeys = keys2;
+        }
+
+        if (fromItems != items) {
+            System.arraycopy(fromItems, 0, items, 0, n);
+        }
+    }
+
+    /**
+     * Sorts a list of TransferModel objects by several keys, for example
+     * position ascending, then goal contributions descending, then name
+     * ascending. Each key is read once per player and turned into a dense
+     * integer rank; the ranks are then packed into one long per player, so the
+     * sort itself never calls a getter or compares strings. Players that are
+     * equal on every key keep their relative order.
+     *
+     * @param list The list of TransferModel objects to be sorted.
+     * @param keys The sort keys, most significant first.
+     * @return The same list, sorted by the given keys.
+     */
+    public static List<TransferModel> sortByKeys(List<TransferModel> list, SortKey... keys) {
+        if (list.size() <= 1 || keys.length == 0) {
+            return list;
+        }
+
+        TransferModel[] items = list.toArray(new TransferModel[0]);
+        sortByKeys(items, keys);
+        writeBack(list, items);
+        return list;
+    }
+
+    /**
+     * Sorts an array of TransferModel objects by several keys. See
+     * {@link #sortByKeys(List, SortKey...)}.
+     *
+     * @param items The array to be sorted.
+     * @param keys The sort keys, most significant first.
+     */
+    public static void sortByKeys(TransferModel[] items, SortKey... keys) {
+        int n = items.length;
+        if (n <= 1 || keys.length == 0) {
+            return;
+        }
+
+        // Extract every key once into a column of dense ranks.
+        int[][] ranks = new int[keys.length][];
+        int[] distinct = new int[keys.length];
+        for (int k = 0; k < keys.length; k++) {
+            ranks[k] = new int[n];
+            distinct[k] = rankColumn(items, keys[k], ranks[k]);
+        }
+        int[] order = order(ranks, distinct, n);
+
+        TransferModel[] original = items.clone();
+        for (int i = 0; i < n; i++) {
+            items[i] = original[order[i]];
+        }
+    }
+
+    /**
+     * Computes the order of the rows of a store under several keys, with the
+     * same ranking as {@link #sortByKeys(List, SortKey...)}, but without
+     * moving or materialising any row: the store is read column by column and
+     * the result is a permutation of row indexes. This is how to sort a
+     * {@link PlayerStore}, whose {@link PlayerStore#asList()} view is
+     * read-only and cannot be sorted in place.
+     *
+     * @param store The rows to order.
+     * @param keys The sort keys, most significant first.
+     * @return The row indexes in sorted order, so element i is the row that
+     * comes i-th; rows that are equal on every key keep their relative order.
+     */
+    public static int[] order(PlayerStore store, SortKey... keys) {
+        int n = store.size();
+        int[][] ranks = new int[keys.length][];
+        int[] distinct = new int[keys.length];
+        for (int k = 0; k < keys.length; k++) {
+            ranks[k] = new int[n];
+            distinct[k] = rankColumn(store, keys[k], ranks[k]);
+        }
+        return order(ranks, distinct, n);
+    }
+
+    /**
+     * Computes the sorted order of the rows from their rank columns, packing
+     * everything into one long per row when it fits and otherwise doing one
+     * counting pass per key.
+     */
+    private static int[] order(int[][] ranks, int[] distinct, int n) {
+        int[] bits = new int[ranks.length];
+        int totalBits = bitsFor(n); // The original index is packed in too, as a tie breaker.
+        for (int k = 0; k < ranks.length; k++) {
+            bits[k] = bitsFor(distinct[k]);
+            totalBits += bits[k];
+        }
+        return totalBits < Long.SIZE ? packedOrder(ranks, bits, n) : countingOrder(ranks, distinct, n);
+    }
+
+    /**
+     * Computes the sorted order of the rows by packing their ranks and their
+     * index into one long each and sorting the longs.
+     */
+    private static int[] packedOrder(int[][] ranks, int[] bits, int n) {
+        int indexBits = bitsFor(n);
+        long[] packed = new long[n];
+        for (int i = 0; i < n; i++) {
+            long value = 0;
+            for (int k = 0; k < ranks.length; k++) {
+                value = (value << bits[k]) | ranks[k][i];
+            }
+            packed[i] = (value << indexBits) | i;
+        }
+
+        // Every packed value is unique thanks to the index, so an unstable primitive sort is fine.
+        Arrays.sort(packed);
+
+        long indexMask = (1L << indexBits) - 1;
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = (int) (packed[i] & indexMask);
+        }
+        return order;
+    }
+
+    /**
+     * Computes the sorted order of the rows with one stable counting sort per
+     * key, starting from the least significant key.
+     */
+    private static int[] countingOrder(int[][] ranks, int[] distinct, int n) {
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        int[] next = new int[n];
+
+        for (int k = ranks.length - 1; k >= 0; k--) {
+            int[] column = ranks[k];
+            int[] counts = new int[distinct[k] + 1];
+            for (int row : order) {
+                counts[column[row] + 1]++;
+            }
+            for (int v = 0; v < distinct[k]; v++) {
+                counts[v + 1] += counts[v];
+            }
+            for (int row : order) {
+                next[counts[column[row]]++] = row;
+            }
+
+            int[] swap = order;
+            order = next;
+            next = swap;
+        }
+        return order;
+    }
+
+    /**
+     * Fills {@code ranks} with the dense rank (0 for the smallest value) of
+     * each player's value for the given key, flipped for descending keys.
+     *
+     * @return The number of distinct values.
+     */
+    private static int rankColumn(TransferModel[] items, SortKey key, int[] ranks) {
+        int n = items.length;
+        PlayerField field = key.getField();
+        int distinct;
+        switch (field) {
+            case PLAYER_NAME: {
+                // The cached collation key saves building one per distinct name.
+                distinct = textRanks(n, i -> textValue(items[i], field), i -> items[i].getPlayerNameKey(), ranks);
+                break;
+            }
+            case POSITION:
+            case NATIONALITY: {
+                distinct = codeRanks(items, field, ranks);
+                break;
+            }
+            case MARKET_VALUE: {
+                double[] values = new double[n];
+                for (int i = 0; i < n; i++) {
+                    values[i] = items[i].getMarketValue();
+                }
+                distinct = denseRanks(values, ranks);
+                break;
+            }
+            default: {
+                int[] values = new int[n];
+                for (int i = 0; i < n; i++) {
+                    values[i] = intValue(items[i], field);
+                }
+                distinct = denseRanks(values, ranks);
+                break;
+            }
+        }
+        return direct(key, distinct, ranks);
+    }
+
+    /**
+     * Fills {@code ranks} with the dense rank of each row's value for the
+     * given key, reading the store one column at a time. Text values are
+     * ranked by their decoded strings, since a store's codes need not come
+     * from {@link Vocabulary}.
+     *
+     * @return The number of distinct values.
+     */
+    private static int rankColumn(PlayerStore store, SortKey key, int[] ranks) {
+        int n = store.size();
+        PlayerField field = key.getField();
+        int distinct;
+        switch (field) {
+            case PLAYER_NAME:
+            case POSITION:
+            case NATIONALITY: {
+                distinct = textRanks(n, row -> textValue(store, row, field),
+                        row -> NameCollator.keyOf(textValue(store, row, field)), ranks);
+                break;
+            }
+            case MARKET_VALUE: {
+                double[] values = new double[n];
+                for (int row = 0; row < n; row++) {
+                    values[row] = store.getMarketValue(row);
+                }
+                distinct = denseRanks(values, ranks);
+                break;
+            }
+            default: {
+                int[] values = new int[n];
+                for (int row = 0; row < n; row++) {
+                    values[row] = intValue(store, row, field);
+                }
+                distinct = denseRanks(values, ranks);
+                break;
+            }
+        }
+        return direct(key, distinct, ranks);
+    }
+
+    /**
+     * Flips the ranks of a descending key, so that the greatest value ranks
+     * first.
+     *
+     * @return The number of distinct values, unchanged.
+     */
+    private static int direct(SortKey key, int distinct, int[] ranks) {
+        if (!key.isAscending()) {
+            for (int i = 0; i < ranks.length; i++) {
+                ranks[i] = distinct - 1 - ranks[i];
+            }
+        }
+        return distinct;
+    }
+
+    /**
+     * Fills {@code ranks} with the dense rank of each value.
+     *
+     * @return The number of distinct values.
+     */
+    private static int denseRanks(int[] values, int[] ranks) {
+        int[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int distinct = unique(sorted);
+        for (int i = 0; i < values.length; i++) {
+            ranks[i] = Arrays.binarySearch(sorted, 0, distinct, values[i]);
+        }
+        return distinct;
+    }
+
+    /**
+     * Fills {@code ranks} with the dense rank of each value.
+     *
+     * @return The number of distinct values.
+     */
+    private static int denseRanks(double[] values, int[] ranks) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int distinct = unique(sorted);
+        for (int i = 0; i < values.length; i++) {
+            ranks[i] = Arrays.binarySearch(sorted, 0, distinct, values[i]);
+        }
+        return distinct;
+    }
+
+    /**
+     * Ranks text values by sorting only the distinct values, so the number of
+     * comparisons depends on the vocabulary size rather than the number of
+     * players. Values are ordered by their {@link NameCollator} collation keys,
+     * which {@code keyOf} supplies for the first row holding each distinct
+     * value, and values that collate equal share a rank.
+     */
+    private static int textRanks(int n, IntFunction<String> valueOf, IntFunction<CollationKey> keyOf, int[] ranks) {
+        Map<String, Integer> ids = new HashMap<>();
+        List<CollationKey> vocabulary = new ArrayList<>();
+        int[] idOf = new int[n];
+        for (int i = 0; i < n; i++) {
+            String value = valueOf.apply(i);
+            Integer id = ids.get(value);
+            if (id == null) {
+                id = vocabulary.size();
+                ids.put(value, id);
+                vocabulary.add(keyOf.apply(i));
+            }
+            idOf[i] = id;
+        }
+
+        // Sort the ids of the distinct values by their collation keys. The key's
+        // source string is the case-folded name, so it cannot lead back to the id.
+        Integer[] byKey = new Integer[vocabulary.size()];
+        for (int id = 0; id < byKey.length; id++) {
+            byKey[id] = id;
+        }
+        sortArray(byKey, Comparator.comparing(vocabulary::get));
+        int[] rankOfId = new int[byKey.length];
+        int rank = -1;
+        for (int i = 0; i < byKey.length; i++) {
+            if (i == 0 || vocabulary.get(byKey[i]).compareTo(vocabulary.get(byKey[i - 1])) != 0) {
+                rank++;
+            }
+            rankOfId[byKey[i]] = rank;
+        }
+
+        for (int i = 0; i < n; i++) {
+            ranks[i] = rankOfId[idOf[i]];
+        }
+        return rank + 1;
+    }
+
+    /**
+     * Ranks a dictionary-coded attribute. Only the small dictionary is sorted
+     * by collation key; each player is then ranked with one array lookup on
+     * its code, without touching any strings.
+     */
+    private static int codeRanks(TransferModel[] items, PlayerField field, int[] ranks) {
+        StringDictionary dictionary = field == PlayerField.POSITION ? Vocabulary.POSITIONS : Vocabulary.NATIONALITIES;
+        // Entry 0 stands for a missing value, which reads as empty; entry c + 1 for code c.
+        int entries = dictionary.size() + 1;
+        CollationKey[] keys = new CollationKey[entries];
+        Integer[] byKey = new Integer[entries];
+        keys[0] = NameCollator.keyOf("");
+        byKey[0] = 0;
+        for (int code = 0; code < entries - 1; code++) {
+            keys[code + 1] = NameCollator.keyOf(dictionary.decode(code));
+            byKey[code + 1] = code + 1;
+        }
+        sortArray(byKey, Comparator.comparing(entry -> keys[entry]));
+
+        int[] rankOfEntry = new int[entries];
+        int rank = -1;
+        for (int i = 0; i < entries; i++) {
+            if (i == 0 || keys[byKey[i]].compareTo(keys[byKey[i - 1]]) != 0) {
+                rank++;
+            }
+            rankOfEntry[byKey[i]] = rank;
+        }
+
+        for (int i = 0; i < items.length; i++) {
+            int code = field == PlayerField.POSITION ? items[i].getPositionCode() : items[i].getNationalityCode();
+            // NO_CODE is -1, so code + 1 maps a missing value to entry 0.
+            ranks[i] = rankOfEntry[code + 1];
+        }
+        return rank + 1;
+    }
+
+    /**
+     * Reads a text attribute of a player; a missing value reads as empty.
+     */
+    private static String textValue(TransferModel player, PlayerField field) {
+        String value;
+        switch (field) {
+            case PLAYER_NAME:
+                value = player.getPlayerName();
+                break;
+            case POSITION:
+                value = player.getPosition();
+                break;
+            case NATIONALITY:
+                value = player.getNationality();
+                break;
+            default:
+                throw new IllegalArgumentException(field + " is not a text attribute.");
+        }
+        return value == null ? "" : value;
+    }
+
+    /**
+     * Reads a text attribute of a stored row; a missing value reads as empty.
+     */
+    private static String textValue(PlayerStore store, int row, PlayerField field) {
+        String value;
+        switch (field) {
+            case PLAYER_NAME:
+                value = store.getPlayerName(row);
+                break;
+            case POSITION:
+                value = store.getPosition(row);
+                break;
+            case NATIONALITY:
+                value = store.getNationality(row);
+                break;
+            default:
+                throw new IllegalArgumentException(field + " is not a text attribute.");
+        }
+        return value == null ? "" : value;
+    }
+
+    /**
+     * Reads an integer attribute of a stored row.
+     */
+    private static int intValue(PlayerStore store, int row, PlayerField field) {
+        switch (field) {
+            case PLAYER_ID:
+                return store.getPlayerId(row);
+            case AGE:
+                return store.getAge(row);
+            case CONTRACT_DURATION:
+                return store.getContractDuration(row);
+            case GOAL_CONTRIBUTION:
+                return store.getGoalContribution(row);
+            default:
+                throw new IllegalArgumentException(field + " is not an integer attribute.");
+        }
+    }
+
+    /**
+     * Reads an integer attribute of a player.
+     */
+    private static int intValue(TransferModel player, PlayerField field) {
+        switch (field) {
+            case PLAYER_ID:
+                return player.getPlayerId();
+            case AGE:
+                return player.getAge();
+            case CONTRACT_DURATION:
+                return player.getContractDuration();
+            case GOAL_CONTRIBUTION:
+                return player.getGoalContribution();
+            default:
+                throw new IllegalArgumentException(field + " is not an integer attribute.");
+        }
+    }
+
+    /**
+     * Removes adjacent duplicates from a sorted array in place.
+     *
+     * @return The number of distinct values now at the front of the array.
+     */
+    private static int unique(int[] sorted) {
+        int size = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (size == 0 || sorted[size - 1] != sorted[i]) {
+                sorted[size++] = sorted[i];
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Removes adjacent duplicates from a sorted array in place.
+     *
+     * @return The number of distinct values now at the front of the array.
+     */
+    private static int unique(double[] sorted) {
+        int size = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (size == 0 || Double.compare(sorted[size - 1], sorted[i]) != 0) {
+                sorted[size++] = sorted[i];
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Number of bits needed to store the values 0 to {@code count - 1}.
+     */
+    private static int bitsFor(int count) {
+        return count <= 1 ? 0 : Integer.SIZE - Integer.numberOfLeadingZeros(count - 1);
+    }
+
+    /**
+     * Selects the players with the highest market values without sorting the
+     * whole roster.
+     *
+     * @param players The players to select from.
+     * @param k The maximum number of players to return.
+     * @return Up to k players, highest market value first.
+     */
+    public static List<TransferModel> topByMarketValue(Iterable<TransferModel> players, int k) {
+        return topK(players, k, BY_MARKET_VALUE);
+    }
+
+    /**
+     * Selects the players with the most goal contributions without sorting the
+     * whole roster.
+     *
+     * @param players The players to select from.
+     * @param k The maximum number of players to return.
+     * @return Up to k players, most goal contributions first.
+     */
+    public static List<TransferModel> topByGoalContribution(Iterable<TransferModel> players, int k) {
+        return topK(players, k, BY_GOAL_CONTRIBUTION);
+    }
+
+    /**
+     * Selects the k greatest elements according to a comparator in one pass,
+     * using a bounded min-heap that holds the best k elements seen so far.
+     * Runs in O(n log k) time and O(k) memory.
+     *
+     * The result holds the same values as sorting all elements and keeping
+     * the first k. When several elements tie at the cutoff, which of them are
+     * kept, and the order of equal elements, is not specified.
+     *
+     * @param <T> The type of the elements.
+     * @param items The elements to select from.
+     * @param k The maximum number of elements to return.
+     * @param comparator The comparator that defines the order.
+     * @return Up to k elements in descending order.
+     * @throws IllegalArgumentException If k is negative.
+     */
+    public static <T> List<T> topK(Iterable<T> items, int k, Comparator<? super T> comparator) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must not be negative.");
+        }
+
+        @SuppressWarnings("unchecked")
+        T[] heap = (T[]) new Object[Math.min(k, 1024)];
+        int size = 0;
+        for (T item : items) {
+            if (size < k) {
+                // Still filling up: grow the array if needed and sift the new element up.
+                if (size == heap.length) {
+                    heap = Arrays.copyOf(heap, Math.min(k, heap.length * 2));
+                }
+                int i = size++;
+                while (i > 0) {
+                    int parent = (i - 1) >>> 1;
+                    if (comparator.compare(heap[parent], item) <= 0) {
+                        break;
+                    }
+                    heap[i] = heap[parent];
+                    i = parent;
+                }
+                heap[i] = item;
+            } else if (k > 0 && comparator.compare(item, heap[0]) > 0) {
+                // Better than the worst element kept: replace the root and sift it down.
+                siftDown(heap, size, item, comparator);
+            }
+        }
+
+        T[] selected = Arrays.copyOf(heap, size);
+        mergeSort(selected, comparator.reversed());
+        return new ArrayList<>(Arrays.asList(selected));
+    }
+
+    /**
+     * Selects the k smallest elements according to a comparator. See
+     * {@link #topK(Iterable, int, Comparator)}.
+     *
+     * @param <T> The type of the elements.
+     * @param items The elements to select from.
+     * @param k The maximum number of elements to return.
+     * @param comparator The comparator that defines the order.
+     * @return Up to k elements in ascending order.
+     */
+    public static <T> List<T> bottomK(Iterable<T> items, int k, Comparator<? super T> comparator) {
+        return topK(items, k, Collections.reverseOrder(comparator));
+    }
+
+    /**
+     * Places {@code item} at the root of a min-heap and moves it down until
+     * the heap order is restored.
+     */
+    private static <T> void siftDown(T[] heap, int size, T item, Comparator<? super T> comparator) {
+        int i = 0;
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            int right = child + 1;
+            if (right < size && comparator.compare(heap[right], heap[child]) < 0) {
+                child = right;
+            }
+            if (comparator.compare(item, heap[child]) <= 0) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = item;
+    }
+
+    /**
+     * Sorts a list in place with a stable O(n log n) merge sort. The elements
+     * are copied into a contiguous array once, sorted there, and written back
+     * in a single sequential pass, so a LinkedList is never accessed by index.
+     *
+     * @param <T> The type of the list elements.
+     * @param list The list to be sorted.
+     * @param comparator The comparator that defines the order.
+     * @return The same list, sorted.
+     */
+    public static <T> List<T> sort(List<T> list, Comparator<? super T> comparator) {
+        if (list.size() <= 1) {
+            return list;
+        }
+
+        @SuppressWarnings("unchecked")
+        T[] items = (T[]) list.toArray();
+        sortArray(items, comparator);
+        writeBack(list, items);
+        return list;
+    }
+
+    /**
+     * Copies sorted elements back into a list through a ListIterator, which is
+     * O(1) per step for both linked and array-backed lists.
+     */
+    private static <T> void writeBack(List<T> list, T[] items) {
+        ListIterator<T> iterator = list.listIterator();
+        for (T item : items) {
+            iterator.next();
+            iterator.set(item);
+        }
+    }
+
+    /**
+     * Sorts an array in place with a stable merge sort, using the parallel
+     * fork/join variant when the array reaches the parallel threshold and more
+     * than one worker thread is available.
+     *
+     * @param <T> The type of the array elements.
+     * @param items The array to be sorted.
+     * @param comparator The comparator that defines the order.
+     */
+    public static <T> void sortArray(T[] items, Comparator<? super T> comparator) {
+        if (items.length >= parallelThreshold && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            parallelMergeSort(items, comparator);
+        } else {
+            mergeSort(items, comparator);
+        }
+    }
+
+    /**
+     * Retrieves the size from which {@link #sortArray} switches to the
+     * parallel merge sort.
+     *
+     * @return The current parallel threshold.
+     */
+    public static int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * Updates the size from which {@link #sortArray} switches to the parallel
+     * merge sort.
+     *
+     * @param threshold The new threshold; must be at least 2.
+     * @throws IllegalArgumentException If the threshold is less than 2.
+     */
+    public static void setParallelThreshold(int threshold) {
+        if (threshold < 2) {
+            throw new IllegalArgumentException("Parallel threshold must be at least 2.");
+        }
+        parallelThreshold = threshold;
+    }
+
+    /**
+     * Sorts an array in place with a stable merge sort that runs on the common
+     * ForkJoinPool. Both the recursive sorting of the halves and the merging of
+     * large runs are split across tasks, and one scratch buffer is shared by
+     * all of them.
+     *
+     * @param <T> The type of the array elements.
+     * @param items The array to be sorted.
+     * @param comparator The comparator that defines the order.
+     */
+    public static <T> void parallelMergeSort(T[] items, Comparator<? super T> comparator) {
+        if (items.length <= 1) {
+            return;
+        }
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        // Aim for a few tasks per worker so idle threads can steal work.
+        int granularity = Math.max(items.length / (pool.getParallelism() << 2), MIN_PARALLEL_GRANULARITY);
+        T[] buffer = items.clone();
+        pool.invoke(new SortTask<>(buffer, items, 0, items.length, comparator, granularity));
+    }
+
+    /**
+     * Sorts an array in place with a stable top-down merge sort that uses a
+     * single scratch buffer for the whole sort.
+     *
+     * @param <T> The type of the array elements.
+     * @param items The array to be sorted.
+     * @param comparator The comparator that defines the order.
+     */
+    public static <T> void mergeSort(T[] items, Comparator<? super T> comparator) {
+        if (items.length <= 1) {
+            return;
+        }
+        // The buffer starts as a copy so both arrays hold the same elements in every range.
+        T[] buffer = items.clone();
+        mergeSort(buffer, items, 0, items.length, comparator);
+    }
+
+    /**
+     * Sorts the range [from, to) of {@code source} into {@code target}. Both
+     * arrays must hold the same elements in that range on entry; the roles of
+     * the two arrays swap on every level of the recursion so no copying is
+     * needed between levels.
+     */
+    private static <T> void mergeSort(T[] source, T[] target, int from, int to, Comparator<? super T> comparator) {
+        // Small ranges are cheaper to finish with insertion sort.
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            insertionSort(target, from, to, comparator);
+            return;
+        }
+
+        int mid = (from + to) >>> 1;
+        mergeSort(target, source, from, mid, comparator);
+        mergeSort(target, source, mid, to, comparator);
+
+        // If the two halves are already in order, a plain copy is enough.
+        if (comparator.compare(source[mid - 1], source[mid]) <= 0) {
+            System.arraycopy(source, from, target, from, to - from);
+            return;
+        }
+
+        merge(source, from, mid, mid, to, target, from, comparator);
+    }
+
+    /**
+     * Merges the sorted runs [leftFrom, leftTo) and [rightFrom, rightTo) of
+     * {@code source} into {@code target} starting at {@code out}. Ties are
+     * taken from the left run first, which keeps the sort stable.
+     */
+    private static <T> void merge(T[] source, int leftFrom, int leftTo, int rightFrom, int rightTo,
+            T[] target, int out, Comparator<? super T> comparator) {
+        int i = leftFrom, j = rightFrom; // Pointers for the left and right runs.
+        while (i < leftTo && j < rightTo) {
+            if (comparator.compare(source[i], source[j]) <= 0) {
+                target[out++] = source[i++];
+            } else {
+                target[out++] = source[j++];
+            }
+        }
+        // Copy whatever is left of the run that was not exhausted.
+        System.arraycopy(source, i, target, out, leftTo - i);
+        System.arraycopy(source, j, target, out + (leftTo - i), rightTo - j);
+    }
+
+    /**
+     * Finds the first index in [from, to) whose element is not less than
+     * {@code key} ({@code strict == false}) or greater than {@code key}
+     * ({@code strict == true}).
+     */
+    private static <T> int bound(T[] items, int from, int to, T key, boolean strict, Comparator<? super T> comparator) {
+        while (from < to) {
+            int mid = (from + to) >>> 1;
+            int cmp = comparator.compare(items[mid], key);
+            if (cmp < 0 || (strict && cmp == 0)) {
+                from = mid + 1;
+            } else {
+                to = mid;
+            }
+        }
+        return from;
+    }
+
+    /**
+     * Fork/join task that sorts the range [from, to) of {@code source} into
+     * {@code target}, following the same buffer-swapping scheme as the
+     * sequential merge sort.
+     */
+    private static final class SortTask<T> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient T[] source;
+        private final transient T[] target;
+        private final int from;
+        private final int to;
+        private final transient Comparator<? super T> comparator;
+        private final int granularity;
+
+        SortTask(T[] source, T[] target, int from, int to, Comparator<? super T> comparator, int granularity) {
+            this.source = source;
+            this.target = target;
+            this.from = from;
+            this.to = to;
+            this.comparator = comparator;
+            this.granularity = granularity;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= granularity) {
+                mergeSort(source, target, from, to, comparator);
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(new SortTask<>(target, source, from, mid, comparator, granularity),
+                    new SortTask<>(target, source, mid, to, comparator, granularity));
+
+            if (comparator.compare(source[mid - 1], source[mid]) <= 0) {
+                System.arraycopy(source, from, target, from, to - from);
+                return;
+            }
+            new MergeTask<>(source, from, mid, mid, to, target, from, comparator, granularity).compute();
+        }
+    }
+
+    /**
+     * Fork/join task that merges two sorted runs of {@code source} into
+     * {@code target}. Large merges are split by taking the middle element of
+     * the longer run and binary searching its position in the other run, so
+     * the final merges do not become a single-threaded bottleneck.
+     */
+    private static final class MergeTask<T> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient T[] source;
+        private final int leftFrom;
+        private final int leftTo;
+        private final int rightFrom;
+        private final int rightTo;
+        private final transient T[] target;
+        private final int out;
+        private final transient Comparator<? super T> comparator;
+        private final int granularity;
+
+        MergeTask(T[] source, int leftFrom, int leftTo, int rightFrom, int rightTo,
+                T[] target, int out, Comparator<? super T> comparator, int granularity) {
+            this.source = source;
+            this.leftFrom = leftFrom;
+            this.leftTo = leftTo;
+            this.rightFrom = rightFrom;
+            this.rightTo = rightTo;
+            this.target = target;
+            this.out = out;
+            this.comparator = comparator;
+            this.granularity = granularity;
+        }
+
+        @Override
+        protected void compute() {
+            int leftSize = leftTo - leftFrom;
+            int rightSize = rightTo - rightFrom;
+            if (leftSize + rightSize <= granularity) {
+                merge(source, leftFrom, leftTo, rightFrom, rightTo, target, out, comparator);
+                return;
+            }
+
+            int leftSplit, rightSplit;
+            if (leftSize >= rightSize) {
+                leftSplit = (leftFrom + leftTo) >>> 1;
+                // Right elements equal to the pivot must stay after it to keep the merge stable.
+                rightSplit = bound(source, rightFrom, rightTo, source[leftSplit], false, comparator);
+            } else {
+                rightSplit = (rightFrom + rightTo) >>> 1;
+                // Left elements equal to the pivot must stay before it.
+                leftSplit = bound(source, leftFrom, leftTo, source[rightSplit], true, comparator);
+            }
+
+            int secondOut = out + (leftSplit - leftFrom) + (rightSplit - rightFrom);
+            invokeAll(new MergeTask<>(source, leftFrom, leftSplit, rightFrom, rightSplit, target, out, comparator, granularity),
+                    new MergeTask<>(source, leftSplit, leftTo, rightSplit, rightTo, target, secondOut, comparator, granularity));
+        }
+    }
+
+    /**
+     * Stable insertion sort of the range [from, to) of an array.
+     */
+    private static <T> void insertionSort(T[] items, int from, int to, Comparator<? super T> comparator) {
+        for (int i = from + 1; i < to; i++) {
+            T key = items[i];
+            int j = i - 1;
+            // Shift larger elements one slot to the right.
+            while (j >= from && comparator.compare(items[j], key) > 0) {
+                items[j + 1] = items[j];
+                j--;
+            }
+            items[j + 1] = key;
+        }
+    }
+
 }
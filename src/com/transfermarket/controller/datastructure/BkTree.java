@@ -0,0 +1,274 @@
+package com.transfermarket.controller.datastructure;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A Burkhard-Keller tree over words, ordered by Levenshtein (edit) distance.
+ * Because edit distance obeys the triangle inequality, a search for words
+ * within distance d of a query only needs to descend into the children whose
+ * edge distance lies in [dist - d, dist + d], which skips most of the tree for
+ * small d.
+ *
+ * Words may be added several times and are counted. Removing a word only
+ * lowers its count; a node whose count drops to zero stays in the tree as a
+ * routing node, because a BK-tree cannot drop a single node cheaply. Once
+ * more than half of the nodes are such dead nodes, the tree is rebuilt from
+ * the live words, so memory and search time stay proportional to the words
+ * actually stored, at an amortized O(1) rebuilds per removal.
+ *
+ * @author Samir Adhikari
+ */
+public class BkTree {
+
+    private Node root;
+    private int size;
+    private int nodeCount; // Nodes in the tree, including dead ones.
+    private int deadNodeCount; // Nodes whose word count is zero.
+
+    /**
+     * Adds one occurrence of a word to the tree.
+     *
+     * @param word The word to add.
+     */
+    public void add(String word) {
+        insert(word, 1);
+    }
+
+    /**
+     * Adds occurrences of a word, reviving its node if it was dead.
+     */
+    private void insert(String word, int occurrences) {
+        size += occurrences;
+        if (root == null) {
+            root = new Node(word, occurrences);
+            nodeCount++;
+            return;
+        }
+
+        Node node = root;
+        while (true) {
+            int distance = distance(word, node.word, Integer.MAX_VALUE);
+            if (distance == 0) {
+                if (node.count == 0) {
+                    deadNodeCount--;
+                }
+                node.count += occurrences;
+                return;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(word, occurrences));
+                node.maxEdge = Math.max(node.maxEdge, distance);
+                nodeCount++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Removes one occurrence of a word from the tree.
+     *
+     * @param word The word to remove.
+     * @return true if the word was present, false otherwise.
+     */
+    public boolean remove(String word) {
+        Node node = root;
+        while (node != null) {
+            int distance = distance(word, node.word, Integer.MAX_VALUE);
+            if (distance == 0) {
+                if (node.count == 0) {
+                    return false;
+                }
+                node.count--;
+                size--;
+                if (node.count == 0) {
+                    deadNodeCount++;
+                    if (deadNodeCount * 2 > nodeCount) {
+                        rebuild();
+                    }
+                }
+                return true;
+            }
+            node = node.children.get(distance);
+        }
+        return false;
+    }
+
+    /**
+     * Rebuilds the tree from its live words, dropping every dead node.
+     */
+    private void rebuild() {
+        List<Node> live = new ArrayList<>(nodeCount - deadNodeCount);
+        if (root != null) {
+            Deque<Node> pending = new ArrayDeque<>();
+            pending.push(root);
+            while (!pending.isEmpty()) {
+                Node node = pending.pop();
+                if (node.count > 0) {
+                    live.add(node);
+                }
+                for (Node child : node.children.values()) {
+                    pending.push(child);
+                }
+            }
+        }
+
+        root = null;
+        size = 0;
+        nodeCount = 0;
+        deadNodeCount = 0;
+        for (Node node : live) {
+            insert(node.word, node.count);
+        }
+    }
+
+    /**
+     * Retrieves the number of nodes in the tree, including the dead routing
+     * nodes of removed words. It never exceeds twice the number of distinct
+     * stored words.
+     *
+     * @return The number of nodes.
+     */
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Retrieves the number of words stored in the tree.
+     *
+     * @return The number of words, counting duplicates.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Finds the stored words within a maximum edit distance of a query.
+     *
+     * @param query The word to look for.
+     * @param maxDistance The largest edit distance to accept.
+     * @return The matches, closest first and alphabetical among equals.
+     */
+    public List<Match> search(String query, int maxDistance) {
+        List<Match> matches = new ArrayList<>();
+        if (root == null || maxDistance < 0) {
+            return matches;
+        }
+
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            // Beyond this bound neither the node nor any of its children can match.
+            int distance = distance(query, node.word, maxDistance + node.maxEdge);
+            if (distance <= maxDistance && node.count > 0) {
+                matches.add(new Match(node.word, distance));
+            }
+            // Only children within [distance - max, distance + max] can hold matches.
+            for (Map.Entry<Integer, Node> edge : node.children.entrySet()) {
+                if (Math.abs(edge.getKey() - distance) <= maxDistance) {
+                    pending.push(edge.getValue());
+                }
+            }
+        }
+
+        matches.sort(Comparator.comparingInt(Match::getDistance).thenComparing(Match::getWord));
+        return matches;
+    }
+
+    /**
+     * Computes the Levenshtein distance between two words with two rows of
+     * dynamic programming. Stops early and returns {@code limit + 1} once the
+     * distance is known to exceed {@code limit}.
+     *
+     * @param a The first word.
+     * @param b The second word.
+     * @param limit The largest distance of interest.
+     * @return The edit distance, or {@code limit + 1} if it exceeds the limit.
+     */
+    public static int distance(String a, String b, int limit) {
+        if (Math.abs(a.length() - b.length()) > limit) {
+            return limit + 1;
+        }
+
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            char ca = a.charAt(i - 1);
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (ca == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > limit) {
+                return limit + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    /**
+     * A stored word together with its edit distance to the query.
+     */
+    public static final class Match {
+
+        private final String word;
+        private final int distance;
+
+        Match(String word, int distance) {
+            this.word = word;
+            this.distance = distance;
+        }
+
+        /**
+         * Retrieves the matching word.
+         *
+         * @return The stored word.
+         */
+        public String getWord() {
+            return word;
+        }
+
+        /**
+         * Retrieves the edit distance between the word and the query.
+         *
+         * @return The edit distance.
+         */
+        public int getDistance() {
+            return distance;
+        }
+    }
+
+    /**
+     * A tree node: a word, how often it is currently stored, and the children
+     * keyed by their edit distance to this word.
+     */
+    private static final class Node {
+
+        private final String word;
+        private int count;
+        private int maxEdge; // Largest edge distance to a child.
+        private final Map<Integer, Node> children = new HashMap<>(4);
+
+        Node(String word, int count) {
+            this.word = word;
+            this.count = count;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.transfermarket.controller.datastructure;
+
+/**
+ * Sum and threshold-count scans over primitive columns, such as the columns of
+ * a {@link ColumnarPlayerStore}. When the {@code jdk.incubator.vector} module
+ * is available (the project adds it with
+ * {@code --add-modules jdk.incubator.vector}) the scans run as SIMD kernels in
+ * {@link VectorKernels}; otherwise, or when the system property
+ * {@code transfermarket.vector} is set to {@code false}, they run as plain
+ * scalar loops with the same results.
+ *
+ * Vectorised double sums add the values in a different order than the scalar
+ * loop, so the two may differ in the last bits.
+ *
+ * @author Samir Adhikari
+ */
+public final class ColumnKernels {
+
+    private static final boolean VECTORIZED = detectVectorSupport();
+
+    private ColumnKernels() {
+    }
+
+    /**
+     * Reports whether the scans run on the Vector API.
+     *
+     * @return true if the SIMD kernels are in use, false for the scalar
+     * fallback.
+     */
+    public static boolean isVectorized() {
+        return VECTORIZED;
+    }
+
+    /**
+     * Sums the first {@code length} values of a column.
+     *
+     * @param values The column.
+     * @param length The number of values to add.
+     * @return The sum.
+     */
+    public static double sum(double[] values, int length) {
+        checkLength(values.length, length);
+        return VECTORIZED ? VectorKernels.sum(values, length) : scalarSum(values, length);
+    }
+
+    /**
+     * Sums the first {@code length} values of a column without overflowing.
+     *
+     * @param values The column.
+     * @param length The number of values to add.
+     * @return The sum.
+     */
+    public static long sum(int[] values, int length) {
+        checkLength(values.length, length);
+        return VECTORIZED ? VectorKernels.sum(values, length) : scalarSum(values, length);
+    }
+
+    /**
+     * Counts the values among the first {@code length} that are greater than
+     * a threshold.
+     *
+     * @param values The column.
+     * @param length The number of values to scan.
+     * @param threshold The exclusive lower bound.
+     * @return The number of values above the threshold.
+     */
+    public static int countAbove(double[] values, int length, double threshold) {
+        checkLength(values.length, length);
+        return VECTORIZED ? VectorKernels.countAbove(values, length, threshold) : scalarCountAbove(values, length, threshold);
+    }
+
+    /**
+     * Counts the values among the first {@code length} that are greater than
+     * a threshold.
+     *
+     * @param values The column.
+     * @param length The number of values to scan.
+     * @param threshold The exclusive lower bound.
+     * @return The number of values above the threshold.
+     */
+    public static int countAbove(int[] values, int length, int threshold) {
+        checkLength(values.length, length);
+        return VECTORIZED ? VectorKernels.countAbove(values, length, threshold) : scalarCountAbove(values, length, threshold);
+    }
+
+    static double scalarSum(double[] values, int length) {
+        double sum = 0;
+        for (int i = 0; i < length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    static long scalarSum(int[] values, int length) {
+        long sum = 0;
+        for (int i = 0; i < length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    static int scalarCountAbove(double[] values, int length, double threshold) {
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            if (values[i] > threshold) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    static int scalarCountAbove(int[] values, int length, int threshold) {
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            if (values[i] > threshold) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static void checkLength(int capacity, int length) {
+        if (length < 0 || length > capacity) {
+            throw new IndexOutOfBoundsException("Length: " + length + ", Capacity: " + capacity);
+        }
+    }
+
+    /**
+     * Loads the vector kernels if possible. Without the incubator module the
+     * first touch of {@link VectorKernels} fails to link, which selects the
+     * scalar loops.
+     */
+    private static boolean detectVectorSupport() {
+        if (!Boolean.parseBoolean(System.getProperty("transfermarket.vector", "true"))) {
+            return false;
+        }
+        try {
+            return VectorKernels.isSupported();
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,590 @@
+package com.transfermarket.controller.datastructure;
+
+import com.transfermarket.model.TransferModel;
+import com.transfermarket.model.Vocabulary;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Stores players column by column ("struct of arrays") instead of one object
+ * per player. Numeric fields live in primitive arrays and the low-cardinality
+ * text fields (position and nationality) are dictionary-coded into int
+ * columns, so a row costs about 32 bytes plus its name instead of a
+ * {@link TransferModel} with its object header, references and list node.
+ * Scanning a single column, for example summing market values, walks one
+ * contiguous array and stays cache friendly.
+ *
+ * Player names are almost all distinct, so dictionary coding would not save
+ * anything for them; they are kept as a plain reference column.
+ *
+ * Rows are addressed by index 0 .. size() - 1. Removing a row moves the last
+ * row into the hole, so row indexes are only stable until the next removal.
+ *
+ * @author Samir Adhikari
+ */
+public class ColumnarPlayerStore implements PlayerStore {
+
+    private final StringDictionary positions;
+    private final StringDictionary nationalities;
+
+    private int size;
+    private int[] playerIds;
+    private String[] playerNames;
+    private int[] positionCodes;
+    private int[] nationalityCodes;
+    private int[] ages;
+    private double[] marketValues;
+    private int[] contractDurations;
+    private int[] goalContributions;
+
+    /**
+     * Creates an empty store that shares the {@link Vocabulary} dictionaries,
+     * so the codes of each player are copied without a lookup.
+     */
+    public ColumnarPlayerStore() {
+        this(Vocabulary.POSITIONS, Vocabulary.NATIONALITIES, 16);
+    }
+
+    /**
+     * Creates an empty store that encodes its text columns with the given
+     * dictionaries, which may be shared with other stores.
+     *
+     * @param positions The dictionary for the position column.
+     * @param nationalities The dictionary for the nationality column.
+     * @param initialCapacity The number of rows to allocate up front.
+     */
+    public ColumnarPlayerStore(StringDictionary positions, StringDictionary nationalities, int initialCapacity) {
+        this.positions = positions;
+        this.nationalities = nationalities;
+        int capacity = Math.max(1, initialCapacity);
+        playerIds = new int[capacity];
+        playerNames = new String[capacity];
+        positionCodes = new int[capacity];
+        nationalityCodes = new int[capacity];
+        ages = new int[capacity];
+        marketValues = new double[capacity];
+        contractDurations = new int[capacity];
+        goalContributions = new int[capacity];
+    }
+
+    /**
+     * Creates a store holding a copy of the given players, in iteration order.
+     *
+     * @param players The players to copy.
+     * @return A new store with one row per player.
+     */
+    public static ColumnarPlayerStore of(Iterable<TransferModel> players) {
+        ColumnarPlayerStore store = new ColumnarPlayerStore();
+        for (TransferModel player : players) {
+            store.add(player);
+        }
+        return store;
+    }
+
+    /**
+     * Appends a player as a new row.
+     *
+     * @param player The player to copy into the store.
+     * @return The index of the new row.
+     */
+    public int add(TransferModel player) {
+        if (size == playerIds.length) {
+            grow();
+        }
+        write(size, player);
+        return size++;
+    }
+
+    /**
+     * Overwrites a row with the fields of a player.
+     *
+     * @param row The index of the row.
+     * @param player The player to copy into the row.
+     */
+    public void set(int row, TransferModel player) {
+        checkRow(row);
+        write(row, player);
+    }
+
+    private void write(int row, TransferModel player) {
+        playerIds[row] = player.getPlayerId();
+        playerNames[row] = player.getPlayerName();
+        positionCodes[row] = positions == Vocabulary.POSITIONS
+                ? player.getPositionCode() : encode(positions, player.getPosition());
+        nationalityCodes[row] = nationalities == Vocabulary.NATIONALITIES
+                ? player.getNationalityCode() : encode(nationalities, player.getNationality());
+        ages[row] = player.getAge();
+        marketValues[row] = player.getMarketValue();
+        contractDurations[row] = player.getContractDuration();
+        goalContributions[row] = player.getGoalContribution();
+    }
+
+    /**
+     * Removes a row by moving the last row into its place.
+     *
+     * @param row The index of the row to remove.
+     * @return The former index of the row that was moved into {@code row}, or
+     * -1 if the removed row was the last one.
+     */
+    public int remove(int row) {
+        checkRow(row);
+        int last = --size;
+        playerNames[row] = playerNames[last];
+        playerNames[last] = null; // Let the name be collected.
+        if (row == last) {
+            return -1;
+        }
+        playerIds[row] = playerIds[last];
+        positionCodes[row] = positionCodes[last];
+        nationalityCodes[row] = nationalityCodes[last];
+        ages[row] = ages[last];
+        marketValues[row] = marketValues[last];
+        contractDurations[row] = contractDurations[last];
+        goalContributions[row] = goalContributions[last];
+        return last;
+    }
+
+    /**
+     * Retrieves the number of rows.
+     *
+     * @return The number of stored players.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Shrinks the columns to the number of rows, releasing unused capacity.
+     */
+    public void trimToSize() {
+        resize(Math.max(1, size));
+    }
+
+    /**
+     * Copies a row back into a new {@link TransferModel}.
+     *
+     * @param row The index of the row.
+     * @return A new player object with the row's fields.
+     */
+    @Override
+    public TransferModel get(int row) {
+        checkRow(row);
+        return new TransferModel(playerIds[row], playerNames[row], decode(positions, positionCodes[row]),
+                decode(nationalities, nationalityCodes[row]), ages[row], marketValues[row],
+                contractDurations[row], goalContributions[row]);
+    }
+
+    /**
+     * Retrieves the player ID of a row.
+     *
+     * @param row The index of the row.
+     * @return The player ID.
+     */
+    @Override
+    public int getPlayerId(int row) {
+        checkRow(row);
+        return playerIds[row];
+    }
+
+    /**
+     * Retrieves the player name of a row.
+     *
+     * @param row The index of the row.
+     * @return The player's name.
+     */
+    @Override
+    public String getPlayerName(int row) {
+        checkRow(row);
+        return playerNames[row];
+    }
+
+    /**
+     * Retrieves the position of a row.
+     *
+     * @param row The index of the row.
+     * @return The position.
+     */
+    @Override
+    public String getPosition(int row) {
+        checkRow(row);
+        return decode(positions, positionCodes[row]);
+    }
+
+    /**
+     * Retrieves the dictionary code of the position of a row.
+     *
+     * @param row The index of the row.
+     * @return The position code.
+     */
+    public int getPositionCode(int row) {
+        checkRow(row);
+        return positionCodes[row];
+    }
+
+    /**
+     * Retrieves the nationality of a row.
+     *
+     * @param row The index of the row.
+     * @return The nationality.
+     */
+    @Override
+    public String getNationality(int row) {
+        checkRow(row);
+        return decode(nationalities, nationalityCodes[row]);
+    }
+
+    /**
+     * Retrieves the dictionary code of the nationality of a row.
+     *
+     * @param row The index of the row.
+     * @return The nationality code.
+     */
+    public int getNationalityCode(int row) {
+        checkRow(row);
+        return nationalityCodes[row];
+    }
+
+    /**
+     * Retrieves the age of a row.
+     *
+     * @param row The index of the row.
+     * @return The age.
+     */
+    @Override
+    public int getAge(int row) {
+        checkRow(row);
+        return ages[row];
+    }
+
+    /**
+     * Retrieves the market value of a row.
+     *
+     * @param row The index of the row.
+     * @return The market value.
+     */
+    @Override
+    public double getMarketValue(int row) {
+        checkRow(row);
+        return marketValues[row];
+    }
+
+    /**
+     * Retrieves the contract duration of a row.
+     *
+     * @param row The index of the row.
+     * @return The contract duration in years.
+     */
+    @Override
+    public int getContractDuration(int row) {
+        checkRow(row);
+        return contractDurations[row];
+    }
+
+    /**
+     * Retrieves the goal contribution of a row.
+     *
+     * @param row The index of the row.
+     * @return The goals plus assists.
+     */
+    @Override
+    public int getGoalContribution(int row) {
+        checkRow(row);
+        return goalContributions[row];
+    }
+
+    /**
+     * Retrieves the dictionary that encodes the position column.
+     *
+     * @return The position dictionary.
+     */
+    public StringDictionary getPositions() {
+        return positions;
+    }
+
+    /**
+     * Retrieves the dictionary that encodes the nationality column.
+     *
+     * @return The nationality dictionary.
+     */
+    public StringDictionary getNationalities() {
+        return nationalities;
+    }
+
+    /**
+     * Sums the market value column in a single sequential pass, vectorised
+     * where possible (see {@link ColumnKernels}).
+     *
+     * @return The total market value of all rows.
+     */
+    public double totalMarketValue() {
+        return ColumnKernels.sum(marketValues, size);
+    }
+
+    /**
+     * Sums the age column.
+     *
+     * @return The total age of all rows.
+     */
+    public long totalAge() {
+        return ColumnKernels.sum(ages, size);
+    }
+
+    /**
+     * Sums the goal contribution column.
+     *
+     * @return The total goal contribution of all rows.
+     */
+    public long totalGoalContribution() {
+        return ColumnKernels.sum(goalContributions, size);
+    }
+
+    /**
+     * Counts the rows whose market value is greater than a threshold.
+     *
+     * @param threshold The exclusive lower bound.
+     * @return The number of matching rows.
+     */
+    public int countMarketValueAbove(double threshold) {
+        return ColumnKernels.countAbove(marketValues, size, threshold);
+    }
+
+    /**
+     * Counts the rows whose age is greater than a threshold.
+     *
+     * @param threshold The exclusive lower bound.
+     * @return The number of matching rows.
+     */
+    public int countAgeAbove(int threshold) {
+        return ColumnKernels.countAbove(ages, size, threshold);
+    }
+
+    /**
+     * Counts the rows whose goal contribution is greater than a threshold.
+     *
+     * @param threshold The exclusive lower bound.
+     * @return The number of matching rows.
+     */
+    public int countGoalContributionAbove(int threshold) {
+        return ColumnKernels.countAbove(goalContributions, size, threshold);
+    }
+
+    /**
+     * Counts the rows with a given position by comparing codes only.
+     *
+     * @param position The position to count.
+     * @return The number of rows with that position.
+     */
+    public int countByPosition(String position) {
+        return countCode(positionCodes, positions.codeOf(position));
+    }
+
+    /**
+     * Counts the rows with a given nationality by comparing codes only.
+     *
+     * @param nationality The nationality to count.
+     * @return The number of rows with that nationality.
+     */
+    public int countByNationality(String nationality) {
+        return countCode(nationalityCodes, nationalities.codeOf(nationality));
+    }
+
+    /**
+     * Opens a cursor positioned before the first row.
+     *
+     * @return A new cursor over the rows.
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * Encodes a value of a text column, storing null as
+     * {@link Vocabulary#NO_CODE} like {@link TransferModel} does.
+     */
+    private static int encode(StringDictionary dictionary, String value) {
+        return value == null ? Vocabulary.NO_CODE : dictionary.encode(value);
+    }
+
+    /**
+     * Decodes a code of a text column, turning {@link Vocabulary#NO_CODE} back
+     * into null.
+     */
+    private static String decode(StringDictionary dictionary, int code) {
+        return code == Vocabulary.NO_CODE ? null : dictionary.decode(code);
+    }
+
+    private int countCode(int[] column, int code) {
+        if (code == StringDictionary.NOT_FOUND) {
+            return 0;
+        }
+        int count = 0;
+        for (int row = 0; row < size; row++) {
+            if (column[row] == code) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row: " + row + ", Size: " + size);
+        }
+    }
+
+    private void grow() {
+        resize(playerIds.length * 2);
+    }
+
+    private void resize(int capacity) {
+        playerIds = Arrays.copyOf(playerIds, capacity);
+        playerNames = Arrays.copyOf(playerNames, capacity);
+        positionCodes = Arrays.copyOf(positionCodes, capacity);
+        nationalityCodes = Arrays.copyOf(nationalityCodes, capacity);
+        ages = Arrays.copyOf(ages, capacity);
+        marketValues = Arrays.copyOf(marketValues, capacity);
+        contractDurations = Arrays.copyOf(contractDurations, capacity);
+        goalContributions = Arrays.copyOf(goalContributions, capacity);
+    }
+
+    /**
+     * A movable view of one row. The cursor reads the columns directly, so
+     * walking the whole store allocates nothing but the cursor itself. It
+     * must not be used across removals.
+     */
+    public final class Cursor {
+
+        private int row = -1;
+
+        private Cursor() {
+        }
+
+        /**
+         * Moves to the next row.
+         *
+         * @return true if the cursor is on a row, false once all rows have
+         * been visited.
+         */
+        public boolean next() {
+            if (row + 1 >= size) {
+                row = size;
+                return false;
+            }
+            row++;
+            return true;
+        }
+
+        /**
+         * Moves to a given row.
+         *
+         * @param row The index of the row.
+         */
+        public void moveTo(int row) {
+            checkRow(row);
+            this.row = row;
+        }
+
+        /**
+         * Retrieves the index of the current row.
+         *
+         * @return The row index.
+         */
+        public int row() {
+            if (row < 0 || row >= size) {
+                throw new NoSuchElementException();
+            }
+            return row;
+        }
+
+        /**
+         * Retrieves the player ID of the current row.
+         *
+         * @return The player ID.
+         */
+        public int getPlayerId() {
+            return playerIds[row()];
+        }
+
+        /**
+         * Retrieves the player name of the current row.
+         *
+         * @return The player's name.
+         */
+        public String getPlayerName() {
+            return playerNames[row()];
+        }
+
+        /**
+         * Retrieves the position of the current row.
+         *
+         * @return The position.
+         */
+        public String getPosition() {
+            return decode(positions, positionCodes[row()]);
+        }
+
+        /**
+         * Retrieves the dictionary code of the position of the current row.
+         *
+         * @return The position code.
+         */
+        public int getPositionCode() {
+            return positionCodes[row()];
+        }
+
+        /**
+         * Retrieves the nationality of the current row.
+         *
+         * @return The nationality.
+         */
+        public String getNationality() {
+            return decode(nationalities, nationalityCodes[row()]);
+        }
+
+        /**
+         * Retrieves the dictionary code of the nationality of the current row.
+         *
+         * @return The nationality code.
+         */
+        public int getNationalityCode() {
+            return nationalityCodes[row()];
+        }
+
+        /**
+         * Retrieves the age of the current row.
+         *
+         * @return The age.
+         */
+        public int getAge() {
+            return ages[row()];
+        }
+
+        /**
+         * Retrieves the market value of the current row.
+         *
+         * @return The market value.
+         */
+        public double getMarketValue() {
+            return marketValues[row()];
+        }
+
+        /**
+         * Retrieves the contract duration of the current row.
+         *
+         * @return The contract duration in years.
+         */
+        public int getContractDuration() {
+            return contractDurations[row()];
+        }
+
+        /**
+         * Retrieves the goal contribution of the current row.
+         *
+         * @return The goals plus assists.
+         */
+        public int getGoalContribution() {
+            return goalContributions[row()];
+        }
+    }
+}
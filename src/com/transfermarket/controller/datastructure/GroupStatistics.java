@@ -0,0 +1,144 @@
+package com.transfermarket.controller.datastructure;
+
+/**
+ * The aggregated figures of one group of players, as produced by
+ * {@link Aggregations}: how many players the group has and the count, sum,
+ * mean, minimum and maximum of their market values and goal contributions.
+ *
+ * @author Samir Adhikari
+ */
+public class GroupStatistics {
+
+    private final String position;
+    private final String nationality;
+    private final Summary marketValue;
+    private final Summary goalContribution;
+
+    GroupStatistics(String position, String nationality, Summary marketValue, Summary goalContribution) {
+        this.position = position;
+        this.nationality = nationality;
+        this.marketValue = marketValue;
+        this.goalContribution = goalContribution;
+    }
+
+    /**
+     * Retrieves the position shared by the group.
+     *
+     * @return The position, or null if the players were not grouped by
+     * position.
+     */
+    public String getPosition() {
+        return position;
+    }
+
+    /**
+     * Retrieves the nationality shared by the group.
+     *
+     * @return The nationality, or null if the players were not grouped by
+     * nationality.
+     */
+    public String getNationality() {
+        return nationality;
+    }
+
+    /**
+     * Retrieves the number of players in the group.
+     *
+     * @return The group size.
+     */
+    public long getCount() {
+        return marketValue.getCount();
+    }
+
+    /**
+     * Retrieves the market value figures of the group.
+     *
+     * @return The market value summary.
+     */
+    public Summary getMarketValue() {
+        return marketValue;
+    }
+
+    /**
+     * Retrieves the goal contribution figures of the group.
+     *
+     * @return The goal contribution summary.
+     */
+    public Summary getGoalContribution() {
+        return goalContribution;
+    }
+
+    @Override
+    public String toString() {
+        return (position == null ? "" : position) + (position != null && nationality != null ? "/" : "")
+                + (nationality == null ? "" : nationality) + " " + marketValue + " " + goalContribution;
+    }
+
+    /**
+     * Count, sum, minimum and maximum of one attribute over a group.
+     */
+    public static final class Summary {
+
+        private final long count;
+        private final double sum;
+        private final double min;
+        private final double max;
+
+        Summary(long count, double sum, double min, double max) {
+            this.count = count;
+            this.sum = sum;
+            this.min = min;
+            this.max = max;
+        }
+
+        /**
+         * Retrieves the number of values.
+         *
+         * @return The number of values.
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * Retrieves the sum of the values.
+         *
+         * @return The sum.
+         */
+        public double getSum() {
+            return sum;
+        }
+
+        /**
+         * Retrieves the arithmetic mean of the values.
+         *
+         * @return The mean, or NaN for an empty group.
+         */
+        public double getMean() {
+            return count == 0 ? Double.NaN : sum / count;
+        }
+
+        /**
+         * Retrieves the smallest value.
+         *
+         * @return The minimum.
+         */
+        public double getMin() {
+            return min;
+        }
+
+        /**
+         * Retrieves the largest value.
+         *
+         * @return The maximum.
+         */
+        public double getMax() {
+            return max;
+        }
+
+        @Override
+        public String toString() {
+            return "[n=" + count + ", sum=" + sum + ", mean=" + getMean() + ", min=" + min + ", max=" + max + "]";
+        }
+    }
+}
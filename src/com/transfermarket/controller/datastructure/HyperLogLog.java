@@ -0,0 +1,136 @@
+package com.transfermarket.controller.datastructure;
+
+/**
+ * Estimates the number of distinct values in a stream using a fixed amount of
+ * memory: 2^precision one-byte registers, 16 KB at the default precision of
+ * 14, for a typical relative error of about 0.8% ({@code 1.04 / sqrt(2^p)}).
+ *
+ * Each value is hashed to 64 bits; the first {@code precision} bits choose a
+ * register, which remembers the longest run of leading zeros seen in the
+ * remaining bits. Sketches with the same precision built over separate
+ * partitions can be combined with {@link #merge(HyperLogLog)}.
+ *
+ * @author Samir Adhikari
+ */
+public class HyperLogLog {
+
+    private final int precision;
+    private final byte[] registers;
+
+    /**
+     * Creates an empty sketch with precision 14.
+     */
+    public HyperLogLog() {
+        this(14);
+    }
+
+    /**
+     * Creates an empty sketch.
+     *
+     * @param precision The number of index bits, between 4 and 18.
+     */
+    public HyperLogLog(int precision) {
+        if (precision < 4 || precision > 18) {
+            throw new IllegalArgumentException("Precision must lie in 4 to 18: " + precision);
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    /**
+     * Adds a string value.
+     *
+     * @param value The value to add; null is ignored.
+     */
+    public void add(String value) {
+        if (value == null) {
+            return;
+        }
+        // FNV-1a over the characters, finished with a 64-bit mixer for good high bits.
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * 0x100000001b3L;
+        }
+        addHash(mix(hash));
+    }
+
+    /**
+     * Adds a long value.
+     *
+     * @param value The value to add.
+     */
+    public void add(long value) {
+        addHash(mix(value));
+    }
+
+    /**
+     * Adds a double value; values that compare equal count once.
+     *
+     * @param value The value to add.
+     */
+    public void add(double value) {
+        add(Double.doubleToLongBits(value == 0 ? 0.0 : value)); // Treat -0.0 like 0.0.
+    }
+
+    /**
+     * Estimates the number of distinct values added so far.
+     *
+     * @return The estimated distinct count.
+     */
+    public long estimate() {
+        int m = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double alpha = m == 16 ? 0.673 : m == 32 ? 0.697 : m == 64 ? 0.709 : 0.7213 / (1 + 1.079 / m);
+        double estimate = alpha * m * m / sum;
+        if (estimate <= 2.5 * m && zeros > 0) {
+            estimate = m * Math.log((double) m / zeros); // Linear counting is more accurate for small sets.
+        }
+        return Math.round(estimate);
+    }
+
+    /**
+     * Adds all values seen by another sketch to this one.
+     *
+     * @param other A sketch with the same precision; it is not modified.
+     */
+    public void merge(HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("Cannot merge precision " + other.precision + " into " + precision);
+        }
+        for (int i = 0; i < registers.length; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+    }
+
+    private void addHash(long hash) {
+        int index = (int) (hash >>> (64 - precision));
+        // Rank of the first 1 bit in the remaining bits; the sentinel bit caps it.
+        long rest = (hash << precision) | (1L << (precision - 1));
+        byte rank = (byte) (Long.numberOfLeadingZeros(rest) + 1);
+        if (rank > registers[index]) {
+            registers[index] = rank;
+        }
+    }
+
+    /**
+     * The finaliser of MurmurHash3, which spreads every input bit over the
+     * whole 64-bit result.
+     */
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
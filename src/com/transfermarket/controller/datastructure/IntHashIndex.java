@@ -0,0 +1,195 @@
+package com.transfermarket.controller.datastructure;
+
+import java.util.Arrays;
+
+/**
+ * A hash map from int keys to non-negative int values that stores both in
+ * primitive arrays, so lookups and updates never box and the table is two flat
+ * arrays instead of one entry object per key. It serves as the primary-key
+ * index from player ID to slot.
+ *
+ * Collisions are resolved by linear probing. Removal shifts the following
+ * entries of the probe run back instead of leaving tombstones, so lookups stay
+ * fast after many deletions. The table doubles once it is two-thirds full,
+ * which keeps every operation O(1) expected time, including bulk loads.
+ *
+ * @author Samir Adhikari
+ */
+public class IntHashIndex {
+
+    /**
+     * Returned for keys that are not present. Values must be non-negative.
+     */
+    public static final int NO_VALUE = -1;
+
+    private int[] keys;
+    private int[] values; // NO_VALUE marks an empty bucket.
+    private int mask;
+    private int size;
+
+    /**
+     * Creates an empty index.
+     */
+    public IntHashIndex() {
+        this(16);
+    }
+
+    /**
+     * Creates an empty index sized to hold the given number of keys without
+     * resizing.
+     *
+     * @param expectedSize The number of keys expected.
+     */
+    public IntHashIndex(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedSize + expectedSize / 2) - 1) << 1;
+        allocate(capacity);
+    }
+
+    /**
+     * Maps a key to a value, replacing any previous value.
+     *
+     * @param key The key.
+     * @param value The value; must not be negative.
+     * @return The previous value of the key, or {@link #NO_VALUE}.
+     */
+    public int put(int key, int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Value must not be negative: " + value);
+        }
+        int i = bucketOf(key);
+        while (values[i] != NO_VALUE) {
+            if (keys[i] == key) {
+                int previous = values[i];
+                values[i] = value;
+                return previous;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        values[i] = value;
+        if (++size * 3 > keys.length * 2) {
+            rehash(keys.length * 2);
+        }
+        return NO_VALUE;
+    }
+
+    /**
+     * Retrieves the value of a key.
+     *
+     * @param key The key to look up.
+     * @return The value, or {@link #NO_VALUE} if the key is not present.
+     */
+    public int get(int key) {
+        int i = bucketOf(key);
+        while (values[i] != NO_VALUE) {
+            if (keys[i] == key) {
+                return values[i];
+            }
+            i = (i + 1) & mask;
+        }
+        return NO_VALUE;
+    }
+
+    /**
+     * Checks whether a key is present.
+     *
+     * @param key The key to look for.
+     * @return true if the key is present, false otherwise.
+     */
+    public boolean containsKey(int key) {
+        return get(key) != NO_VALUE;
+    }
+
+    /**
+     * Removes a key.
+     *
+     * @param key The key to remove.
+     * @return The value the key had, or {@link #NO_VALUE} if it was not
+     * present.
+     */
+    public int remove(int key) {
+        int i = bucketOf(key);
+        while (values[i] != NO_VALUE) {
+            if (keys[i] == key) {
+                int previous = values[i];
+                shiftBack(i);
+                size--;
+                return previous;
+            }
+            i = (i + 1) & mask;
+        }
+        return NO_VALUE;
+    }
+
+    /**
+     * Retrieves the number of keys.
+     *
+     * @return The number of keys.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all keys, keeping the current capacity.
+     */
+    public void clear() {
+        Arrays.fill(values, NO_VALUE);
+        size = 0;
+    }
+
+    /**
+     * Empties bucket {@code hole} and moves later entries of the same probe
+     * run back so that none of them sits behind an empty bucket.
+     */
+    private void shiftBack(int hole) {
+        int i = hole;
+        while (true) {
+            i = (i + 1) & mask;
+            if (values[i] == NO_VALUE) {
+                break;
+            }
+            int home = bucketOf(keys[i]);
+            // Move the entry if its home bucket does not lie cyclically in (hole, i].
+            if (((i - home) & mask) >= ((i - hole) & mask)) {
+                keys[hole] = keys[i];
+                values[hole] = values[i];
+                hole = i;
+            }
+        }
+        values[hole] = NO_VALUE;
+    }
+
+    /**
+     * The bucket a key is first looked for in; package-private so tests can
+     * pick keys that collide.
+     */
+    int bucketOf(int key) {
+        // Fibonacci hashing spreads sequential IDs across the table.
+        int h = key * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != NO_VALUE) {
+                int j = bucketOf(oldKeys[i]);
+                while (values[j] != NO_VALUE) {
+                    j = (j + 1) & mask;
+                }
+                keys[j] = oldKeys[i];
+                values[j] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        Arrays.fill(values, NO_VALUE);
+        mask = capacity - 1;
+    }
+}
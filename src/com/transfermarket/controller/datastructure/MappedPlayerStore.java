@@ -0,0 +1,381 @@
+package com.transfermarket.controller.datastructure;
+
+import com.transfermarket.model.TransferModel;
+import com.transfermarket.model.Vocabulary;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stores players as fixed-width records in a memory-mapped file, so rosters
+ * far larger than the heap can be kept open: the operating system pages the
+ * records in and out, and nothing but the small dictionaries lives on the
+ * heap. Numeric accessors read straight from the mapping without copying.
+ *
+ * The file starts with a {@value #HEADER_SIZE}-byte header holding a magic
+ * number, the row count and the position and nationality dictionaries,
+ * followed by {@value #RECORD_SIZE}-byte records laid out as:
+ *
+ * <pre>
+ *  0  int    player ID
+ *  4  int    age
+ *  8  double market value
+ * 16  int    contract duration
+ * 20  int    goal contribution
+ * 24  short  position code, or -1 if not set
+ * 26  short  nationality code, or -1 if not set
+ * 28  short  name length in bytes
+ * 30  byte[] name, UTF-8, at most 66 bytes
+ * </pre>
+ *
+ * A single mapping cannot exceed 2 GB, so the records are mapped in segments
+ * of up to 1 GB; the last segment is remapped with twice the capacity as the
+ * store grows. Rows can be appended and overwritten but not removed, which
+ * matches an append-mostly history of players.
+ *
+ * @author Samir Adhikari
+ */
+public class MappedPlayerStore implements PlayerStore, Closeable {
+
+    private static final int MAGIC = 0x544D5053; // "TMPS"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 4096;
+    private static final int RECORD_SIZE = 96;
+    private static final int MAX_NAME_BYTES = RECORD_SIZE - 30;
+    private static final int RECORDS_PER_SEGMENT = (1 << 30) / RECORD_SIZE;
+    private static final int MIN_SEGMENT_RECORDS = 1024;
+
+    // Header layout.
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int SIZE_OFFSET = 8;
+    private static final int DICTIONARY_OFFSET = 16;
+
+    // Record layout.
+    private static final int PLAYER_ID = 0;
+    private static final int AGE = 4;
+    private static final int MARKET_VALUE = 8;
+    private static final int CONTRACT_DURATION = 16;
+    private static final int GOAL_CONTRIBUTION = 20;
+    private static final int POSITION = 24;
+    private static final int NATIONALITY = 26;
+    private static final int NAME_LENGTH = 28;
+    private static final int NAME = 30;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private final List<MappedByteBuffer> segments = new ArrayList<>();
+    private final StringDictionary positions = new StringDictionary();
+    private final StringDictionary nationalities = new StringDictionary();
+    private int size;
+    private int headerEnd; // End of the dictionaries in the header.
+
+    private MappedPlayerStore(FileChannel channel) throws IOException {
+        this.channel = channel;
+        this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+    }
+
+    /**
+     * Opens a store file, creating an empty store if the file does not exist
+     * or is empty.
+     *
+     * @param file The path of the store file.
+     * @return The opened store.
+     * @throws IOException If the file cannot be opened or is not a store file.
+     */
+    public static MappedPlayerStore open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            boolean created = channel.size() == 0;
+            MappedPlayerStore store = new MappedPlayerStore(channel);
+            if (created) {
+                store.header.putInt(MAGIC_OFFSET, MAGIC);
+                store.header.putInt(VERSION_OFFSET, VERSION);
+                store.writeHeader();
+            } else {
+                store.readHeader(file);
+            }
+            return store;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Appends a player as a new record.
+     *
+     * @param player The player to write.
+     * @return The index of the new row.
+     */
+    public int add(TransferModel player) {
+        ensureCapacity(size + 1);
+        write(size, player);
+        size++;
+        header.putInt(SIZE_OFFSET, size);
+        return size - 1;
+    }
+
+    /**
+     * Overwrites a record with the fields of a player.
+     *
+     * @param row The index of the row.
+     * @param player The player to write.
+     */
+    public void set(int row, TransferModel player) {
+        checkRow(row);
+        write(row, player);
+    }
+
+    /**
+     * Writes all changes through to the file.
+     */
+    public void flush() {
+        header.force();
+        for (MappedByteBuffer segment : segments) {
+            segment.force();
+        }
+    }
+
+    /**
+     * Flushes the store and closes the file. The mappings stay valid until
+     * they are garbage collected, but the store must not be used afterwards.
+     *
+     * @throws IOException If the file cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        flush();
+        channel.close();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public TransferModel get(int row) {
+        return new TransferModel(getPlayerId(row), getPlayerName(row), getPosition(row),
+                getNationality(row), getAge(row), getMarketValue(row),
+                getContractDuration(row), getGoalContribution(row));
+    }
+
+    @Override
+    public int getPlayerId(int row) {
+        return segment(row).getInt(offset(row) + PLAYER_ID);
+    }
+
+    @Override
+    public String getPlayerName(int row) {
+        MappedByteBuffer segment = segment(row);
+        int offset = offset(row);
+        byte[] bytes = new byte[segment.getShort(offset + NAME_LENGTH)];
+        segment.get(offset + NAME, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String getPosition(int row) {
+        return decode(positions, segment(row).getShort(offset(row) + POSITION));
+    }
+
+    @Override
+    public String getNationality(int row) {
+        return decode(nationalities, segment(row).getShort(offset(row) + NATIONALITY));
+    }
+
+    @Override
+    public int getAge(int row) {
+        return segment(row).getInt(offset(row) + AGE);
+    }
+
+    @Override
+    public double getMarketValue(int row) {
+        return segment(row).getDouble(offset(row) + MARKET_VALUE);
+    }
+
+    @Override
+    public int getContractDuration(int row) {
+        return segment(row).getInt(offset(row) + CONTRACT_DURATION);
+    }
+
+    @Override
+    public int getGoalContribution(int row) {
+        return segment(row).getInt(offset(row) + GOAL_CONTRIBUTION);
+    }
+
+    /**
+     * Writes a record. Everything that can fail is checked before the
+     * dictionaries are touched, so a rejected player leaves the dictionaries,
+     * the header and the records as they were.
+     */
+    private void write(int row, TransferModel player) {
+        if (player.getPlayerName() == null) {
+            throw new IllegalArgumentException("Player name is not set: " + player.getPlayerId());
+        }
+        byte[] name = player.getPlayerName().getBytes(StandardCharsets.UTF_8);
+        if (name.length > MAX_NAME_BYTES) {
+            throw new IllegalArgumentException("Player name is longer than " + MAX_NAME_BYTES + " bytes: "
+                    + player.getPlayerName());
+        }
+        int newEntries = entrySize(positions, player.getPosition())
+                + entrySize(nationalities, player.getNationality());
+        if (headerEnd + newEntries > HEADER_SIZE) {
+            throw new IllegalStateException("Dictionary does not fit in the store header");
+        }
+
+        int position = encode(positions, player.getPosition());
+        int nationality = encode(nationalities, player.getNationality());
+        if (newEntries > 0) {
+            writeHeader(); // A new dictionary entry has to be persisted.
+        }
+
+        MappedByteBuffer segment = segments.get(row / RECORDS_PER_SEGMENT);
+        int offset = offset(row);
+        segment.putInt(offset + PLAYER_ID, player.getPlayerId());
+        segment.putInt(offset + AGE, player.getAge());
+        segment.putDouble(offset + MARKET_VALUE, player.getMarketValue());
+        segment.putInt(offset + CONTRACT_DURATION, player.getContractDuration());
+        segment.putInt(offset + GOAL_CONTRIBUTION, player.getGoalContribution());
+        segment.putShort(offset + POSITION, (short) position);
+        segment.putShort(offset + NATIONALITY, (short) nationality);
+        segment.putShort(offset + NAME_LENGTH, (short) name.length);
+        segment.put(offset + NAME, name);
+    }
+
+    /**
+     * Retrieves the header bytes a value would add to a dictionary: none if it
+     * is null or already known.
+     */
+    private static int entrySize(StringDictionary dictionary, String value) {
+        if (value == null || dictionary.codeOf(value) != StringDictionary.NOT_FOUND) {
+            return 0;
+        }
+        int length = value.getBytes(StandardCharsets.UTF_8).length;
+        if (length > 255) {
+            throw new IllegalArgumentException("Value is longer than 255 bytes: " + value);
+        }
+        return 1 + length;
+    }
+
+    /**
+     * Encodes a value of a text column, storing null as
+     * {@link Vocabulary#NO_CODE} like {@link TransferModel} does.
+     */
+    private static int encode(StringDictionary dictionary, String value) {
+        return value == null ? Vocabulary.NO_CODE : dictionary.encode(value);
+    }
+
+    /**
+     * Decodes a code of a text column, turning {@link Vocabulary#NO_CODE} back
+     * into null.
+     */
+    private static String decode(StringDictionary dictionary, int code) {
+        return code == Vocabulary.NO_CODE ? null : dictionary.decode(code);
+    }
+
+    private MappedByteBuffer segment(int row) {
+        checkRow(row);
+        return segments.get(row / RECORDS_PER_SEGMENT);
+    }
+
+    private static int offset(int row) {
+        return (row % RECORDS_PER_SEGMENT) * RECORD_SIZE;
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row: " + row + ", Size: " + size);
+        }
+    }
+
+    /**
+     * Maps enough segments to hold the given number of records, growing the
+     * last segment geometrically so small stores stay small on disk.
+     */
+    private void ensureCapacity(int records) {
+        int lastSegment = (records - 1) / RECORDS_PER_SEGMENT;
+        // Every segment before the last one needed must be full-sized.
+        for (int i = 0; i < lastSegment; i++) {
+            mapSegment(i, RECORDS_PER_SEGMENT);
+        }
+        int needed = records - lastSegment * RECORDS_PER_SEGMENT;
+        int current = lastSegment < segments.size() ? segments.get(lastSegment).capacity() / RECORD_SIZE : 0;
+        if (current < needed) {
+            int capacity = Math.max(needed, Math.max(MIN_SEGMENT_RECORDS, current * 2));
+            mapSegment(lastSegment, Math.min(RECORDS_PER_SEGMENT, capacity));
+        }
+    }
+
+    private void mapSegment(int index, int records) {
+        if (index < segments.size() && segments.get(index).capacity() >= records * RECORD_SIZE) {
+            return;
+        }
+        long position = HEADER_SIZE + (long) index * RECORDS_PER_SEGMENT * RECORD_SIZE;
+        try {
+            MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_WRITE, position, (long) records * RECORD_SIZE);
+            if (index < segments.size()) {
+                segments.set(index, segment);
+            } else {
+                segments.add(segment);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot map player records", e);
+        }
+    }
+
+    private void readHeader(Path file) throws IOException {
+        if (header.getInt(MAGIC_OFFSET) != MAGIC || header.getInt(VERSION_OFFSET) != VERSION) {
+            throw new IOException("Not a player store: " + file);
+        }
+        int position = readDictionary(positions, DICTIONARY_OFFSET);
+        headerEnd = readDictionary(nationalities, position);
+        int rows = header.getInt(SIZE_OFFSET);
+        if (rows > 0) {
+            ensureCapacity(rows);
+        }
+        size = rows;
+    }
+
+    private int readDictionary(StringDictionary dictionary, int position) {
+        int count = header.getShort(position);
+        position += 2;
+        for (int i = 0; i < count; i++) {
+            byte[] bytes = new byte[header.get(position) & 0xFF];
+            header.get(position + 1, bytes);
+            dictionary.encode(new String(bytes, StandardCharsets.UTF_8));
+            position += 1 + bytes.length;
+        }
+        return position;
+    }
+
+    private void writeHeader() {
+        header.putInt(SIZE_OFFSET, size);
+        int position = writeDictionary(positions, DICTIONARY_OFFSET);
+        headerEnd = writeDictionary(nationalities, position);
+    }
+
+    /**
+     * Writes a dictionary into the header. Entries are checked to fit before
+     * they are encoded, so this cannot run out of space.
+     */
+    private int writeDictionary(StringDictionary dictionary, int position) {
+        header.putShort(position, (short) dictionary.size());
+        position += 2;
+        for (int code = 0; code < dictionary.size(); code++) {
+            byte[] bytes = dictionary.decode(code).getBytes(StandardCharsets.UTF_8);
+            header.put(position, (byte) bytes.length);
+            header.put(position + 1, bytes);
+            position += 1 + bytes.length;
+        }
+        return position;
+    }
+}
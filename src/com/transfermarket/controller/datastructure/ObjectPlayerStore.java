@@ -0,0 +1,145 @@
+package com.transfermarket.controller.datastructure;
+
+import com.transfermarket.model.TransferModel;
+import java.util.Arrays;
+
+/**
+ * Stores players as references to their {@link TransferModel} objects. Unlike
+ * {@link ColumnarPlayerStore} and {@link MappedPlayerStore} it copies nothing:
+ * {@link #get(int)} returns the stored object itself, so a row still is the
+ * player registered in the {@link com.transfermarket.controller.PlayerRegistry}
+ * and can be compared with it by identity. The column accessors read the
+ * object's fields.
+ *
+ * Rows are addressed by index 0 .. size() - 1. Removing a row moves the last
+ * row into the hole, so row indexes are only stable until the next removal.
+ *
+ * @author Samir Adhikari
+ */
+public class ObjectPlayerStore implements PlayerStore {
+
+    private TransferModel[] players;
+    private int size;
+
+    /**
+     * Creates an empty store.
+     */
+    public ObjectPlayerStore() {
+        this(16);
+    }
+
+    /**
+     * Creates an empty store with room for the given number of rows.
+     *
+     * @param initialCapacity The number of rows to allocate up front.
+     */
+    public ObjectPlayerStore(int initialCapacity) {
+        players = new TransferModel[Math.max(1, initialCapacity)];
+    }
+
+    /**
+     * Appends a player as a new row.
+     *
+     * @param player The player to store.
+     * @return The index of the new row.
+     */
+    public int add(TransferModel player) {
+        if (size == players.length) {
+            players = Arrays.copyOf(players, size * 2);
+        }
+        players[size] = player;
+        return size++;
+    }
+
+    /**
+     * Replaces the player of a row.
+     *
+     * @param row The index of the row.
+     * @param player The new player of the row.
+     * @return The player previously stored in the row.
+     */
+    public TransferModel set(int row, TransferModel player) {
+        checkRow(row);
+        TransferModel previous = players[row];
+        players[row] = player;
+        return previous;
+    }
+
+    /**
+     * Removes a row by moving the last row into its place.
+     *
+     * @param row The index of the row to remove.
+     * @return The former index of the row that was moved into {@code row}, or
+     * -1 if the removed row was the last one.
+     */
+    public int remove(int row) {
+        checkRow(row);
+        int last = --size;
+        players[row] = players[last];
+        players[last] = null; // Let the player be collected.
+        return row == last ? -1 : last;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Retrieves the player of a row.
+     *
+     * @param row The index of the row.
+     * @return The stored player object, not a copy.
+     */
+    @Override
+    public TransferModel get(int row) {
+        checkRow(row);
+        return players[row];
+    }
+
+    @Override
+    public int getPlayerId(int row) {
+        return get(row).getPlayerId();
+    }
+
+    @Override
+    public String getPlayerName(int row) {
+        return get(row).getPlayerName();
+    }
+
+    @Override
+    public String getPosition(int row) {
+        return get(row).getPosition();
+    }
+
+    @Override
+    public String getNationality(int row) {
+        return get(row).getNationality();
+    }
+
+    @Override
+    public int getAge(int row) {
+        return get(row).getAge();
+    }
+
+    @Override
+    public double getMarketValue(int row) {
+        return get(row).getMarketValue();
+    }
+
+    @Override
+    public int getContractDuration(int row) {
+        return get(row).getContractDuration();
+    }
+
+    @Override
+    public int getGoalContribution(int row) {
+        return get(row).getGoalContribution();
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row: " + row + ", Size: " + size);
+        }
+    }
+}
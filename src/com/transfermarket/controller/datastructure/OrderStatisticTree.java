@@ -0,0 +1,392 @@
+package com.transfermarket.controller.datastructure;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * A sorted collection backed by an AVL tree in which every node also stores
+ * the size of its subtree. Besides O(log n) insertion and removal this allows
+ * O(log n) access by position ({@link #get(int)}) and O(log n) rank queries
+ * ({@link #indexOf(Object)}), so the collection can serve as an always-sorted
+ * view of the roster.
+ *
+ * The comparator must be a total order on the stored elements: two different
+ * elements must never compare as equal, otherwise the second one is rejected
+ * by {@link #add(Object)}. Elements must not change their sort key while they
+ * are in the tree.
+ *
+ * @param <T> The type of the stored elements.
+ * @author Samir Adhikari
+ */
+public class OrderStatisticTree<T> implements Iterable<T> {
+
+    private final Comparator<? super T> comparator;
+    private Node<T> root;
+
+    /**
+     * Creates an empty tree ordered by the given comparator.
+     *
+     * @param comparator The total order used to sort the elements.
+     */
+    public OrderStatisticTree(Comparator<? super T> comparator) {
+        this.comparator = comparator;
+    }
+
+    /**
+     * Retrieves the number of elements in the tree.
+     *
+     * @return The number of elements.
+     */
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Checks whether the tree holds no elements.
+     *
+     * @return true if the tree is empty, false otherwise.
+     */
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Inserts an element in its sorted position.
+     *
+     * @param element The element to insert.
+     * @return true if the element was added, false if an equal element is
+     * already present.
+     */
+    public boolean add(T element) {
+        int before = size();
+        root = insert(root, element);
+        return size() != before;
+    }
+
+    /**
+     * Removes an element from the tree.
+     *
+     * @param element The element to remove.
+     * @return true if the element was found and removed, false otherwise.
+     */
+    public boolean remove(T element) {
+        int before = size();
+        root = delete(root, element);
+        return size() != before;
+    }
+
+    /**
+     * Removes all elements from the tree.
+     */
+    public void clear() {
+        root = null;
+    }
+
+    /**
+     * Checks whether an element is present in the tree.
+     *
+     * @param element The element to look for.
+     * @return true if the element is present, false otherwise.
+     */
+    public boolean contains(T element) {
+        return indexOf(element) >= 0;
+    }
+
+    /**
+     * Retrieves the element at a given position in sorted order.
+     *
+     * @param index The zero-based position.
+     * @return The element at that position.
+     * @throws IndexOutOfBoundsException If the index is out of range.
+     */
+    public T get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        Node<T> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.element;
+            }
+        }
+    }
+
+    /**
+     * Finds the position of an element in sorted order.
+     *
+     * @param element The element to look for.
+     * @return The zero-based position of the element, or -1 if it is not
+     * present.
+     */
+    public int indexOf(T element) {
+        Node<T> node = root;
+        int rank = 0;
+        while (node != null) {
+            int cmp = comparator.compare(element, node.element);
+            if (cmp < 0) {
+                node = node.left;
+            } else if (cmp > 0) {
+                rank += size(node.left) + 1;
+                node = node.right;
+            } else {
+                return rank + size(node.left);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Counts the leading elements, in sorted order, for which a predicate
+     * holds. The predicate must be monotone with respect to the order: once it
+     * fails for an element it must fail for every later element (for example
+     * "market value is below X"). Runs in O(log n).
+     *
+     * @param before The predicate that holds for a prefix of the elements.
+     * @return The position of the first element for which the predicate
+     * fails, or {@link #size()} if it holds for all elements.
+     */
+    public int countWhile(Predicate<? super T> before) {
+        Node<T> node = root;
+        int rank = 0;
+        while (node != null) {
+            if (before.test(node.element)) {
+                rank += size(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * Copies the elements at positions [from, to) into a new list in sorted
+     * order. Runs in O(log n + k) for k copied elements.
+     *
+     * @param from The first position to copy, inclusive.
+     * @param to The last position to copy, exclusive.
+     * @return A list of the elements in that range.
+     * @throws IndexOutOfBoundsException If the range is invalid.
+     */
+    public List<T> subList(int from, int to) {
+        if (from < 0 || to > size() || from > to) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") of size " + size());
+        }
+        List<T> list = new ArrayList<>(to - from);
+        Iterator<T> iterator = iterator(from);
+        for (int i = from; i < to; i++) {
+            list.add(iterator.next());
+        }
+        return list;
+    }
+
+    /**
+     * Copies the elements into a new list in sorted order. Runs in O(n) since
+     * no comparisons are needed.
+     *
+     * @return A list of all elements in ascending order.
+     */
+    public List<T> toList() {
+        List<T> list = new ArrayList<>(size());
+        for (T element : this) {
+            list.add(element);
+        }
+        return list;
+    }
+
+    /**
+     * Returns an iterator over the elements in ascending order.
+     *
+     * @return An in-order iterator.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return iterator(0);
+    }
+
+    /**
+     * Returns an iterator over the elements in ascending order, starting at
+     * the given position. Positioning the iterator costs O(log n).
+     *
+     * @param startIndex The position of the first element to return.
+     * @return An in-order iterator starting at that position.
+     */
+    public Iterator<T> iterator(int startIndex) {
+        return new Iterator<T>() {
+            // Holds the nodes whose left subtree is being or has been visited.
+            private final Deque<Node<T>> stack = new ArrayDeque<>();
+
+            {
+                // Descend to the start position, keeping the ancestors that still have to be returned.
+                Node<T> node = root;
+                int index = startIndex;
+                while (node != null) {
+                    int leftSize = size(node.left);
+                    if (index < leftSize) {
+                        stack.push(node);
+                        node = node.left;
+                    } else if (index > leftSize) {
+                        index -= leftSize + 1;
+                        node = node.right;
+                    } else {
+                        stack.push(node);
+                        break;
+                    }
+                }
+            }
+
+            private void pushLeft(Node<T> node) {
+                while (node != null) {
+                    stack.push(node);
+                    node = node.left;
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !stack.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                if (stack.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node<T> node = stack.pop();
+                pushLeft(node.right);
+                return node.element;
+            }
+        };
+    }
+
+    private Node<T> insert(Node<T> node, T element) {
+        if (node == null) {
+            return new Node<>(element);
+        }
+        int cmp = comparator.compare(element, node.element);
+        if (cmp < 0) {
+            node.left = insert(node.left, element);
+        } else if (cmp > 0) {
+            node.right = insert(node.right, element);
+        } else {
+            return node; // Already present.
+        }
+        return rebalance(node);
+    }
+
+    private Node<T> delete(Node<T> node, T element) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = comparator.compare(element, node.element);
+        if (cmp < 0) {
+            node.left = delete(node.left, element);
+        } else if (cmp > 0) {
+            node.right = delete(node.right, element);
+        } else {
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            // Replace the node with its in-order successor.
+            Node<T> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            node.element = successor.element;
+            node.right = deleteMin(node.right);
+        }
+        return rebalance(node);
+    }
+
+    private Node<T> deleteMin(Node<T> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = deleteMin(node.left);
+        return rebalance(node);
+    }
+
+    /**
+     * Restores the AVL balance of a node whose subtrees changed, updating the
+     * cached height and size on the way.
+     */
+    private Node<T> rebalance(Node<T> node) {
+        update(node);
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node<T> rotateRight(Node<T> node) {
+        Node<T> pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private Node<T> rotateLeft(Node<T> node) {
+        Node<T> pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static void update(Node<?> node) {
+        node.height = Math.max(height(node.left), height(node.right)) + 1;
+        node.size = size(node.left) + size(node.right) + 1;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * A tree node with its cached height and subtree size.
+     */
+    private static final class Node<T> {
+
+        private T element;
+        private Node<T> left;
+        private Node<T> right;
+        private int height = 1;
+        private int size = 1;
+
+        Node(T element) {
+            this.element = element;
+        }
+    }
+}
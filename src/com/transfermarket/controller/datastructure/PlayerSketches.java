@@ -0,0 +1,101 @@
+package com.transfermarket.controller.datastructure;
+
+import com.transfermarket.model.TransferModel;
+
+/**
+ * Approximate distribution figures over every player fed in:
+ * quantiles of market value and goal contribution (t-digests) and distinct
+ * counts of names and market values (HyperLogLog). Memory stays bounded, a
+ * few tens of kilobytes, however many players are added, and sketches built
+ * over separate partitions of a dataset can be merged.
+ *
+ * Sketches cannot forget values: they only ever grow, and describe every
+ * player fed in, including ones that were later replaced or deleted. The
+ * {@link com.transfermarket.controller.PlayerRegistry} therefore rebuilds its
+ * sketches from the current roster when they are read after a change. Exact
+ * figures over the current roster come from {@link RunningStatistics} and
+ * {@link Aggregations}.
+ *
+ * @author Samir Adhikari
+ */
+public class PlayerSketches {
+
+    private final TDigest marketValues = new TDigest();
+    private final TDigest goalContributions = new TDigest();
+    private final HyperLogLog names = new HyperLogLog();
+    private final HyperLogLog distinctMarketValues = new HyperLogLog();
+
+    /**
+     * Feeds a player into every sketch.
+     *
+     * @param player The player that was added or updated.
+     */
+    public void add(TransferModel player) {
+        marketValues.add(player.getMarketValue());
+        goalContributions.add(player.getGoalContribution());
+        names.add(player.getPlayerName());
+        distinctMarketValues.add(player.getMarketValue());
+    }
+
+    /**
+     * Adds everything summarised by other sketches, for example those of
+     * another partition.
+     *
+     * @param other The sketches to merge in; they are not modified.
+     */
+    public void merge(PlayerSketches other) {
+        marketValues.merge(other.marketValues);
+        goalContributions.merge(other.goalContributions);
+        names.merge(other.names);
+        distinctMarketValues.merge(other.distinctMarketValues);
+    }
+
+    /**
+     * Retrieves the number of players fed into the sketches.
+     *
+     * @return The number of ingested players.
+     */
+    public long size() {
+        return (long) marketValues.size();
+    }
+
+    /**
+     * Estimates a market value quantile, such as the median (0.5) or p90
+     * (0.9).
+     *
+     * @param q The quantile, from 0 to 1.
+     * @return The estimated market value, or NaN if nothing was ingested.
+     */
+    public double marketValueQuantile(double q) {
+        return marketValues.quantile(q);
+    }
+
+    /**
+     * Estimates a goal contribution quantile.
+     *
+     * @param q The quantile, from 0 to 1.
+     * @return The estimated goal contribution, or NaN if nothing was
+     * ingested.
+     */
+    public double goalContributionQuantile(double q) {
+        return goalContributions.quantile(q);
+    }
+
+    /**
+     * Estimates the number of distinct player names.
+     *
+     * @return The estimated distinct count.
+     */
+    public long distinctNames() {
+        return names.estimate();
+    }
+
+    /**
+     * Estimates the number of distinct market values.
+     *
+     * @return The estimated distinct count.
+     */
+    public long distinctMarketValues() {
+        return distinctMarketValues.estimate();
+    }
+}
@@ -0,0 +1,134 @@
+package com.transfermarket.controller.datastructure;
+
+import com.transfermarket.model.TransferModel;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A table of players addressed by row index 0 .. size() - 1, independent of
+ * how the rows are laid out (player objects in an {@link ObjectPlayerStore},
+ * columns on the heap in a {@link ColumnarPlayerStore} or records in a
+ * memory-mapped file in a {@link MappedPlayerStore}). The per-column
+ * accessors read a single field without materialising the whole player, which
+ * is what scans, aggregations and the player table should use;
+ * {@link #asList()} adapts the store for read-only code written against
+ * {@link List}. To sort a store, compute a permutation of its rows with
+ * {@link Algorithms#order(PlayerStore, SortKey...)}.
+ *
+ * @author Samir Adhikari
+ */
+public interface PlayerStore {
+
+    /**
+     * Retrieves the number of rows.
+     *
+     * @return The number of stored players.
+     */
+    int size();
+
+    /**
+     * Retrieves a row as a {@link TransferModel}. Stores that keep player
+     * objects return the stored object; the others copy the row into a new
+     * one.
+     *
+     * @param row The index of the row.
+     * @return A player object with the row's fields.
+     * @throws IndexOutOfBoundsException If the row does not exist.
+     */
+    TransferModel get(int row);
+
+    /**
+     * Retrieves the player ID of a row.
+     *
+     * @param row The index of the row.
+     * @return The player ID.
+     */
+    int getPlayerId(int row);
+
+    /**
+     * Retrieves the player name of a row.
+     *
+     * @param row The index of the row.
+     * @return The player's name.
+     */
+    String getPlayerName(int row);
+
+    /**
+     * Retrieves the position of a row.
+     *
+     * @param row The index of the row.
+     * @return The position.
+     */
+    String getPosition(int row);
+
+    /**
+     * Retrieves the nationality of a row.
+     *
+     * @param row The index of the row.
+     * @return The nationality.
+     */
+    String getNationality(int row);
+
+    /**
+     * Retrieves the age of a row.
+     *
+     * @param row The index of the row.
+     * @return The age.
+     */
+    int getAge(int row);
+
+    /**
+     * Retrieves the market value of a row.
+     *
+     * @param row The index of the row.
+     * @return The market value.
+     */
+    double getMarketValue(int row);
+
+    /**
+     * Retrieves the contract duration of a row.
+     *
+     * @param row The index of the row.
+     * @return The contract duration in years.
+     */
+    int getContractDuration(int row);
+
+    /**
+     * Retrieves the goal contribution of a row.
+     *
+     * @param row The index of the row.
+     * @return The goals plus assists.
+     */
+    int getGoalContribution(int row);
+
+    /**
+     * Returns a read-only, random-access list view of the store. Each
+     * {@link List#get(int)} materialises a new {@link TransferModel}, so the
+     * view suits paging through rows (for example in a table) rather than
+     * tight loops, which should use the column accessors instead.
+     *
+     * The view cannot be modified, so it only suits algorithms that read:
+     * the in-place sorts of {@link Algorithms} ({@code sort},
+     * {@code sortByIntKey}, {@code sortByKeys}) write back through the list
+     * and throw {@link UnsupportedOperationException} on it. Use
+     * {@link Algorithms#order(PlayerStore, SortKey...)} instead.
+     *
+     * @return A list view backed by the store.
+     */
+    default List<TransferModel> asList() {
+        final class ListView extends AbstractList<TransferModel> implements RandomAccess {
+
+            @Override
+            public TransferModel get(int index) {
+                return PlayerStore.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return PlayerStore.this.size();
+            }
+        }
+        return new ListView();
+    }
+}
@@ -0,0 +1,262 @@
+package com.transfermarket.controller.datastructure;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * A case-insensitive prefix tree over names, used for search-as-you-type
+ * suggestions. The whole trie lives in a few parallel arrays indexed by node
+ * number rather than in node objects: each node stores the character of the
+ * arc leading to it, its first child and its next sibling, so the children of
+ * a node form a linked run through the shared arrays, kept sorted by
+ * character. A node costs a few primitive slots instead of an object plus two
+ * child arrays, and nodes freed by removals are reused.
+ *
+ * Every node also counts the names stored below it, so empty branches are
+ * pruned as soon as names are removed. Looking up the suggestions for a prefix
+ * costs O(prefix length) steps, each scanning the children of one node, plus
+ * the work to walk to the returned names, independent of the total number of
+ * names stored.
+ *
+ * @author Samir Adhikari
+ */
+public class PrefixTrie {
+
+    private static final int NONE = -1;
+    private static final int ROOT = 0;
+
+    // Node n: the character of the arc into it, its first child, its next sibling and its subtree count.
+    private char[] labels;
+    private int[] firstChild;
+    private int[] nextSibling; // Also links the free nodes.
+    private int[] counts;
+    private List<String>[] names; // Names ending at each node, with their original case; null if none.
+    private int nodeCount; // Nodes handed out so far, including freed ones.
+    private int freeNode = NONE;
+
+    /**
+     * Creates an empty trie.
+     */
+    public PrefixTrie() {
+        allocate(64);
+        nodeCount = 1; // The root.
+        firstChild[ROOT] = NONE;
+        nextSibling[ROOT] = NONE;
+    }
+
+    /**
+     * Adds a name to the trie. A name may be added more than once.
+     *
+     * @param name The name to add.
+     */
+    public void add(String name) {
+        String key = normalize(name);
+        int node = ROOT;
+        counts[node]++;
+        for (int i = 0; i < key.length(); i++) {
+            node = childFor(node, key.charAt(i), true);
+            counts[node]++;
+        }
+        if (names[node] == null) {
+            names[node] = new ArrayList<>(1);
+        }
+        names[node].add(name);
+    }
+
+    /**
+     * Removes one occurrence of a name from the trie.
+     *
+     * @param name The name to remove.
+     * @return true if the name was found and removed, false otherwise.
+     */
+    public boolean remove(String name) {
+        String key = normalize(name);
+
+        // Find the node first so nothing is changed when the name is missing.
+        int node = find(key);
+        if (node == NONE || names[node] == null || !names[node].remove(name)) {
+            return false;
+        }
+        if (names[node].isEmpty()) {
+            names[node] = null;
+        }
+
+        // Walk the path again, decrementing counts and pruning the emptied branch.
+        node = ROOT;
+        counts[node]--;
+        for (int i = 0; i < key.length(); i++) {
+            int child = childFor(node, key.charAt(i), false);
+            if (--counts[child] == 0) {
+                unlink(node, child);
+                free(child);
+                break;
+            }
+            node = child;
+        }
+        return true;
+    }
+
+    /**
+     * Retrieves the number of names stored in the trie.
+     *
+     * @return The number of names, counting duplicates.
+     */
+    public int size() {
+        return counts[ROOT];
+    }
+
+    /**
+     * Lists up to {@code limit} distinct names that start with the given
+     * prefix, ignoring case, in alphabetical order.
+     *
+     * @param prefix The prefix typed by the user.
+     * @param limit The maximum number of suggestions to return.
+     * @return The matching names, or an empty list if there are none.
+     */
+    public List<String> suggest(String prefix, int limit) {
+        int node = find(normalize(prefix));
+
+        Set<String> suggestions = new LinkedHashSet<>();
+        if (node != NONE && limit > 0) {
+            collect(node, suggestions, limit);
+        }
+        return new ArrayList<>(suggestions);
+    }
+
+    /**
+     * Follows a normalized key from the root.
+     *
+     * @return The node the key ends at, or {@link #NONE} if no name continues
+     * it.
+     */
+    private int find(String key) {
+        int node = ROOT;
+        for (int i = 0; i < key.length() && node != NONE; i++) {
+            node = childFor(node, key.charAt(i), false);
+        }
+        return node;
+    }
+
+    /**
+     * Collects names depth-first, visiting children in character order, until
+     * the limit is reached.
+     */
+    private void collect(int node, Set<String> suggestions, int limit) {
+        if (names[node] != null) {
+            for (String name : names[node]) {
+                suggestions.add(name);
+                if (suggestions.size() >= limit) {
+                    return;
+                }
+            }
+        }
+        for (int child = firstChild[node]; child != NONE; child = nextSibling[child]) {
+            collect(child, suggestions, limit);
+            if (suggestions.size() >= limit) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Finds the child of a node reached by a character, optionally creating
+     * it at its sorted place among the siblings.
+     *
+     * @return The child, or {@link #NONE} if it is missing and not created.
+     */
+    private int childFor(int node, char c, boolean create) {
+        int previous = NONE;
+        int child = firstChild[node];
+        while (child != NONE && labels[child] < c) {
+            previous = child;
+            child = nextSibling[child];
+        }
+        if (child != NONE && labels[child] == c) {
+            return child;
+        }
+        if (!create) {
+            return NONE;
+        }
+
+        int created = newNode(c);
+        nextSibling[created] = child;
+        if (previous == NONE) {
+            firstChild[node] = created;
+        } else {
+            nextSibling[previous] = created;
+        }
+        return created;
+    }
+
+    /**
+     * Detaches a child from the sibling run of its parent.
+     */
+    private void unlink(int parent, int child) {
+        if (firstChild[parent] == child) {
+            firstChild[parent] = nextSibling[child];
+            return;
+        }
+        int sibling = firstChild[parent];
+        while (nextSibling[sibling] != child) {
+            sibling = nextSibling[sibling];
+        }
+        nextSibling[sibling] = nextSibling[child];
+    }
+
+    /**
+     * Returns a detached, empty branch to the free nodes. Its nodes were
+     * all emptied by the same removal, so it is a single chain.
+     */
+    private void free(int node) {
+        while (node != NONE) {
+            int next = firstChild[node];
+            names[node] = null;
+            nextSibling[node] = freeNode;
+            freeNode = node;
+            node = next;
+        }
+    }
+
+    private int newNode(char c) {
+        int node;
+        if (freeNode != NONE) {
+            node = freeNode;
+            freeNode = nextSibling[node];
+        } else {
+            if (nodeCount == labels.length) {
+                allocate(nodeCount * 2);
+            }
+            node = nodeCount++;
+        }
+        labels[node] = c;
+        firstChild[node] = NONE;
+        nextSibling[node] = NONE;
+        counts[node] = 0;
+        return node;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void allocate(int capacity) {
+        if (labels == null) {
+            labels = new char[capacity];
+            firstChild = new int[capacity];
+            nextSibling = new int[capacity];
+            counts = new int[capacity];
+            names = (List<String>[]) new List<?>[capacity];
+            return;
+        }
+        labels = Arrays.copyOf(labels, capacity);
+        firstChild = Arrays.copyOf(firstChild, capacity);
+        nextSibling = Arrays.copyOf(nextSibling, capacity);
+        counts = Arrays.copyOf(counts, capacity);
+        names = Arrays.copyOf(names, capacity);
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,100 @@
+package com.transfermarket.controller.datastructure;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * A sorted index on one numeric attribute that answers "between X and Y"
+ * queries without scanning every element. Backed by an
+ * {@link OrderStatisticTree}, so insertion and removal cost O(log n), counting
+ * the elements in a range costs O(log n) and listing them costs O(log n + k).
+ *
+ * @param <T> The type of the indexed elements.
+ * @author Samir Adhikari
+ */
+public class RangeIndex<T> {
+
+    private final ToDoubleFunction<? super T> key;
+    private final OrderStatisticTree<T> tree;
+
+    /**
+     * Creates an empty index.
+     *
+     * @param key The function that extracts the indexed value.
+     * @param tieBreaker A total order used between elements with the same
+     * value, for example by a unique ID.
+     */
+    public RangeIndex(ToDoubleFunction<? super T> key, Comparator<? super T> tieBreaker) {
+        this.key = key;
+        Comparator<T> byKey = (a, b) -> Double.compare(key.applyAsDouble(a), key.applyAsDouble(b));
+        this.tree = new OrderStatisticTree<>(byKey.thenComparing(tieBreaker));
+    }
+
+    /**
+     * Adds an element to the index.
+     *
+     * @param element The element to add.
+     */
+    public void add(T element) {
+        tree.add(element);
+    }
+
+    /**
+     * Removes an element from the index.
+     *
+     * @param element The element to remove.
+     */
+    public void remove(T element) {
+        tree.remove(element);
+    }
+
+    /**
+     * Retrieves the number of indexed elements.
+     *
+     * @return The number of elements.
+     */
+    public int size() {
+        return tree.size();
+    }
+
+    /**
+     * Lists the elements whose value lies between two bounds, both inclusive.
+     *
+     * @param min The lower bound.
+     * @param max The upper bound.
+     * @return The matching elements in ascending order of value, or an empty
+     * list if {@code min > max}.
+     */
+    public List<T> between(double min, double max) {
+        int from = lowerRank(min);
+        int to = Math.max(from, upperRank(max));
+        return tree.subList(from, to);
+    }
+
+    /**
+     * Counts the elements whose value lies between two bounds, both inclusive.
+     *
+     * @param min The lower bound.
+     * @param max The upper bound.
+     * @return The number of matching elements.
+     */
+    public int countBetween(double min, double max) {
+        return Math.max(0, upperRank(max) - lowerRank(min));
+    }
+
+    /**
+     * Position of the first element whose value is at least {@code min}.
+     */
+    private int lowerRank(double min) {
+        return tree.countWhile(element -> key.applyAsDouble(element) < min);
+    }
+
+    /**
+     * Position just after the last element whose value is at most
+     * {@code max}.
+     */
+    private int upperRank(double max) {
+        return tree.countWhile(element -> key.applyAsDouble(element) <= max);
+    }
+}
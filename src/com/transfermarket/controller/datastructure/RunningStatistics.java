@@ -0,0 +1,212 @@
+package com.transfermarket.controller.datastructure;
+
+import com.transfermarket.model.TransferModel;
+import com.transfermarket.model.Vocabulary;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Roster-wide figures that are kept current by applying the change of every
+ * added or removed player instead of recomputing them: the number of players,
+ * the total squad value, the mean and variance of the market values, the mean
+ * age, the number of players per position and the market value per
+ * nationality. Each update and each read of a single figure costs O(1).
+ *
+ * The mean and variance of the market values follow Welford's update, which
+ * can also be run backwards to take a value out again, so they stay accurate
+ * without keeping the values themselves.
+ *
+ * A floating-point total drifts a little when values are subtracted again, so
+ * every sum is reset to exactly zero once its group becomes empty.
+ *
+ * @author Samir Adhikari
+ */
+public class RunningStatistics {
+
+    private int count;
+    private double totalMarketValue;
+    private double meanMarketValue;
+    private double marketValueSquares; // Sum of squared deviations from the mean.
+    private long totalAge;
+    private long totalGoalContribution;
+    private int[] positionCounts = new int[Vocabulary.POSITIONS.size()];
+    private int[] nationalityCounts = new int[Vocabulary.NATIONALITIES.size()];
+    private double[] nationalityMarketValues = new double[Vocabulary.NATIONALITIES.size()];
+
+    /**
+     * Adds a player's contribution to every figure.
+     *
+     * @param player The player that was added.
+     */
+    public void add(TransferModel player) {
+        apply(player, 1);
+    }
+
+    /**
+     * Removes a player's contribution from every figure.
+     *
+     * @param player The player that was removed.
+     */
+    public void remove(TransferModel player) {
+        apply(player, -1);
+    }
+
+    /**
+     * Removes all players.
+     */
+    public void clear() {
+        count = 0;
+        totalMarketValue = 0;
+        meanMarketValue = 0;
+        marketValueSquares = 0;
+        totalAge = 0;
+        totalGoalContribution = 0;
+        Arrays.fill(positionCounts, 0);
+        Arrays.fill(nationalityCounts, 0);
+        Arrays.fill(nationalityMarketValues, 0);
+    }
+
+    /**
+     * Retrieves the number of players.
+     *
+     * @return The number of players.
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Retrieves the combined market value of all players.
+     *
+     * @return The total squad value.
+     */
+    public double getTotalMarketValue() {
+        return totalMarketValue;
+    }
+
+    /**
+     * Retrieves the average market value.
+     *
+     * @return The mean market value, or 0 if there are no players.
+     */
+    public double getMeanMarketValue() {
+        return meanMarketValue;
+    }
+
+    /**
+     * Retrieves the population variance of the market values.
+     *
+     * @return The variance, or 0 if there are no players.
+     */
+    public double getMarketValueVariance() {
+        return count == 0 ? 0 : marketValueSquares / count;
+    }
+
+    /**
+     * Retrieves the average age.
+     *
+     * @return The mean age, or 0 if there are no players.
+     */
+    public double getMeanAge() {
+        return count == 0 ? 0 : (double) totalAge / count;
+    }
+
+    /**
+     * Retrieves the combined goal contributions of all players.
+     *
+     * @return The total goals plus assists.
+     */
+    public long getTotalGoalContribution() {
+        return totalGoalContribution;
+    }
+
+    /**
+     * Retrieves the number of players in a position.
+     *
+     * @param position The position.
+     * @return The number of players in that position.
+     */
+    public int getPositionCount(String position) {
+        int code = position == null ? StringDictionary.NOT_FOUND : Vocabulary.POSITIONS.codeOf(position);
+        return code >= 0 && code < positionCounts.length ? positionCounts[code] : 0;
+    }
+
+    /**
+     * Retrieves the combined market value of the players of a nationality.
+     *
+     * @param nationality The nationality.
+     * @return The total market value of that nationality.
+     */
+    public double getNationalityMarketValue(String nationality) {
+        int code = nationality == null ? StringDictionary.NOT_FOUND : Vocabulary.NATIONALITIES.codeOf(nationality);
+        return code >= 0 && code < nationalityMarketValues.length ? nationalityMarketValues[code] : 0;
+    }
+
+    /**
+     * Lists the number of players per position, for positions with at least
+     * one player.
+     *
+     * @return The counts keyed by position, in dictionary order.
+     */
+    public Map<String, Integer> getPositionCounts() {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (int code = 0; code < positionCounts.length; code++) {
+            if (positionCounts[code] > 0) {
+                counts.put(Vocabulary.POSITIONS.decode(code), positionCounts[code]);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Lists the market value per nationality, for nationalities with at least
+     * one player.
+     *
+     * @return The value sums keyed by nationality, in dictionary order.
+     */
+    public Map<String, Double> getNationalityMarketValues() {
+        Map<String, Double> values = new LinkedHashMap<>();
+        for (int code = 0; code < nationalityCounts.length; code++) {
+            if (nationalityCounts[code] > 0) {
+                values.put(Vocabulary.NATIONALITIES.decode(code), nationalityMarketValues[code]);
+            }
+        }
+        return values;
+    }
+
+    private void apply(TransferModel player, int sign) {
+        count += sign;
+        totalAge += sign * player.getAge();
+        totalGoalContribution += sign * player.getGoalContribution();
+        totalMarketValue = count == 0 ? 0 : totalMarketValue + sign * player.getMarketValue();
+        if (count == 0) {
+            meanMarketValue = 0;
+            marketValueSquares = 0;
+        } else {
+            double value = player.getMarketValue();
+            double delta = value - meanMarketValue;
+            meanMarketValue += sign * delta / count;
+            marketValueSquares = Math.max(0, marketValueSquares + sign * delta * (value - meanMarketValue));
+        }
+
+        int position = player.getPositionCode();
+        if (position != Vocabulary.NO_CODE) {
+            if (position >= positionCounts.length) {
+                positionCounts = Arrays.copyOf(positionCounts, Vocabulary.POSITIONS.size());
+            }
+            positionCounts[position] += sign;
+        }
+
+        int nationality = player.getNationalityCode();
+        if (nationality != Vocabulary.NO_CODE) {
+            if (nationality >= nationalityCounts.length) {
+                nationalityCounts = Arrays.copyOf(nationalityCounts, Vocabulary.NATIONALITIES.size());
+                nationalityMarketValues = Arrays.copyOf(nationalityMarketValues, Vocabulary.NATIONALITIES.size());
+            }
+            nationalityCounts[nationality] += sign;
+            nationalityMarketValues[nationality] = nationalityCounts[nationality] == 0
+                    ? 0 : nationalityMarketValues[nationality] + sign * player.getMarketValue();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.transfermarket.controller.datastructure;
+
+import com.transfermarket.model.PlayerField;
+
+/**
+ * One level of a composite sort: the player attribute to sort on and the
+ * direction. Several keys are combined with
+ * {@link Algorithms#sortByKeys(java.util.List, SortKey...)}, for example
+ * position ascending, then goal contributions descending, then name
+ * ascending.
+ *
+ * @author Samir Adhikari
+ */
+public final class SortKey {
+
+    private final PlayerField field;
+    private final boolean ascending;
+
+    private SortKey(PlayerField field, boolean ascending) {
+        if (field == null) {
+            throw new IllegalArgumentException("Sort field can't be null.");
+        }
+        this.field = field;
+        this.ascending = ascending;
+    }
+
+    /**
+     * Creates a key that sorts on the given field in ascending order.
+     *
+     * @param field The player attribute to sort on.
+     * @return The ascending sort key.
+     */
+    public static SortKey ascending(PlayerField field) {
+        return new SortKey(field, true);
+    }
+
+    /**
+     * Creates a key that sorts on the given field in descending order.
+     *
+     * @param field The player attribute to sort on.
+     * @return The descending sort key.
+     */
+    public static SortKey descending(PlayerField field) {
+        return new SortKey(field, false);
+    }
+
+    /**
+     * Retrieves the player attribute this key sorts on.
+     *
+     * @return The sort field.
+     */
+    public PlayerField getField() {
+        return field;
+    }
+
+    /**
+     * Indicates whether this key sorts in ascending order.
+     *
+     * @return true for ascending, false for descending.
+     */
+    public boolean isAscending() {
+        return ascending;
+    }
+
+    @Override
+    public String toString() {
+        return field + (ascending ? " asc" : " desc");
+    }
+}
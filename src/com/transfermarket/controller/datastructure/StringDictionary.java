@@ -0,0 +1,142 @@
+package com.transfermarket.controller.datastructure;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Maps a small vocabulary of strings (positions, nationalities) to dense int
+ * codes 0, 1, 2, ... in the order they are first seen, and back. Columns of
+ * such values can then store one int per row instead of one string reference,
+ * and equality tests become int comparisons.
+ *
+ * Codes are never reused or removed, so a code stays valid for as long as the
+ * dictionary lives. Lookups are lock-free and may run concurrently with
+ * {@link #encode(String)}, so one dictionary can be shared by every player.
+ * Null values are not allowed.
+ *
+ * A dictionary created with {@link #fixed(String...)} holds only the values
+ * it was created with and rejects every other value instead of adding it, so
+ * a long-lived shared dictionary cannot grow with arbitrary input.
+ *
+ * @author Samir Adhikari
+ */
+public class StringDictionary {
+
+    /**
+     * The code returned by {@link #codeOf(String)} for unknown values.
+     */
+    public static final int NOT_FOUND = -1;
+
+    private final Map<String, Integer> codes = new ConcurrentHashMap<>();
+    private volatile String[] values = new String[16];
+    private volatile int size;
+    private final boolean fixed;
+
+    /**
+     * Creates an empty dictionary.
+     */
+    public StringDictionary() {
+        this(false, new String[0]);
+    }
+
+    /**
+     * Creates a dictionary whose first codes are assigned to the given values,
+     * in order.
+     *
+     * @param vocabulary The values to encode up front.
+     */
+    public StringDictionary(String... vocabulary) {
+        this(false, vocabulary);
+    }
+
+    private StringDictionary(boolean fixed, String[] vocabulary) {
+        for (String value : vocabulary) {
+            add(value); // Not encode(), which a subclass could override.
+        }
+        this.fixed = fixed;
+    }
+
+    /**
+     * Creates a dictionary that holds exactly the given values, coded in
+     * order, and never adds another one.
+     *
+     * @param vocabulary The values of the dictionary.
+     * @return The dictionary.
+     */
+    public static StringDictionary fixed(String... vocabulary) {
+        return new StringDictionary(true, vocabulary);
+    }
+
+    /**
+     * Retrieves the code of a value, assigning the next free code if the value
+     * has not been seen before.
+     *
+     * @param value The value to encode.
+     * @return The code of the value.
+     * @throws IllegalArgumentException If the dictionary is fixed and does not
+     * hold the value.
+     */
+    public int encode(String value) {
+        Integer code = codes.get(value);
+        if (code != null) {
+            return code;
+        }
+        if (fixed) {
+            throw new IllegalArgumentException("Not a known value: " + value);
+        }
+        return add(value);
+    }
+
+    private synchronized int add(String value) {
+        Integer code = codes.get(value);
+        if (code != null) {
+            return code; // Added by another thread in the meantime.
+        }
+        // Publish the value and the new size before the mapping, so a code seen
+        // by a reader can always be decoded and is always below size().
+        int newCode = size;
+        String[] array = newCode == values.length ? Arrays.copyOf(values, newCode * 2) : values;
+        array[newCode] = value;
+        values = array;
+        size = newCode + 1;
+        codes.put(value, newCode);
+        return newCode;
+    }
+
+    /**
+     * Retrieves the code of a value without assigning a new one.
+     *
+     * @param value The value to look up.
+     * @return The code of the value, or {@link #NOT_FOUND} if it is unknown.
+     */
+    public int codeOf(String value) {
+        Integer code = codes.get(value);
+        return code == null ? NOT_FOUND : code;
+    }
+
+    /**
+     * Retrieves the value of a code.
+     *
+     * @param code A code returned by this dictionary.
+     * @return The value the code stands for.
+     * @throws IndexOutOfBoundsException If the code was never assigned.
+     */
+    public String decode(int code) {
+        String[] array = values;
+        if (code < 0 || code >= array.length || array[code] == null) {
+            throw new IndexOutOfBoundsException("Code: " + code + ", Size: " + size);
+        }
+        return array[code];
+    }
+
+    /**
+     * Retrieves the number of distinct values, which is also the smallest
+     * unused code.
+     *
+     * @return The number of encoded values.
+     */
+    public int size() {
+        return size;
+    }
+}
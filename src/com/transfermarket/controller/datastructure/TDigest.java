@@ -0,0 +1,233 @@
+package com.transfermarket.controller.datastructure;
+
+import java.util.Arrays;
+
+/**
+ * A merging t-digest: a bounded-size summary of a stream of numbers that
+ * answers quantile queries (median, p90, p99, ...) approximately, with the
+ * best accuracy near the tails. Values are buffered and periodically merged
+ * into a sorted list of centroids (mean and weight). A centroid may only grow
+ * while it covers less than one unit of the scale function
+ * {@code k(q) = compression / (2 pi) * asin(2q - 1)}, which keeps centroids
+ * small near q = 0 and q = 1 and bounds their number by about
+ * {@code compression * pi / 2}, however many values are added.
+ *
+ * Digests built over separate partitions can be combined with
+ * {@link #merge(TDigest)}.
+ *
+ * @author Samir Adhikari
+ */
+public class TDigest {
+
+    private final double compression;
+
+    // Merged centroids, sorted by mean.
+    private double[] means;
+    private double[] weights;
+    private int centroidCount;
+
+    // Values added since the last merge.
+    private final double[] bufferMeans;
+    private final double[] bufferWeights;
+    private int bufferCount;
+
+    private double totalWeight;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    /**
+     * Creates an empty digest with a compression of 100, which keeps quantile
+     * errors around 1% of a rank in the middle and far less at the tails.
+     */
+    public TDigest() {
+        this(100);
+    }
+
+    /**
+     * Creates an empty digest.
+     *
+     * @param compression The accuracy parameter; larger values keep more
+     * centroids and give more accurate quantiles.
+     */
+    public TDigest(double compression) {
+        if (compression < 10) {
+            throw new IllegalArgumentException("Compression must be at least 10: " + compression);
+        }
+        this.compression = compression;
+        int capacity = (int) Math.ceil(compression * Math.PI / 2) + 10;
+        means = new double[capacity];
+        weights = new double[capacity];
+        bufferMeans = new double[capacity * 5];
+        bufferWeights = new double[capacity * 5];
+    }
+
+    /**
+     * Adds one value.
+     *
+     * @param value The value to add.
+     */
+    public void add(double value) {
+        add(value, 1);
+    }
+
+    /**
+     * Adds a value with a weight, as if it had been added {@code weight}
+     * times.
+     *
+     * @param value The value to add.
+     * @param weight The positive weight of the value.
+     */
+    public void add(double value, double weight) {
+        if (Double.isNaN(value) || !(weight > 0)) {
+            throw new IllegalArgumentException("Cannot add value " + value + " with weight " + weight);
+        }
+        if (bufferCount == bufferMeans.length) {
+            compress();
+        }
+        bufferMeans[bufferCount] = value;
+        bufferWeights[bufferCount] = weight;
+        bufferCount++;
+        totalWeight += weight;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Adds all values summarised by another digest to this one.
+     *
+     * @param other The digest to merge in; it is not modified.
+     */
+    public void merge(TDigest other) {
+        other.compress();
+        for (int i = 0; i < other.centroidCount; i++) {
+            add(other.means[i], other.weights[i]);
+        }
+        // The other digest's extremes may lie outside its centroid means.
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Retrieves the total weight of the added values, which is the number of
+     * values when all weights are 1.
+     *
+     * @return The total weight.
+     */
+    public double size() {
+        return totalWeight;
+    }
+
+    /**
+     * Retrieves the number of centroids currently kept, after merging the
+     * buffer.
+     *
+     * @return The number of centroids.
+     */
+    public int centroidCount() {
+        compress();
+        return centroidCount;
+    }
+
+    /**
+     * Estimates the value at a quantile.
+     *
+     * @param q The quantile, from 0 (minimum) to 1 (maximum); 0.5 is the
+     * median.
+     * @return The estimated value, or NaN if the digest is empty.
+     */
+    public double quantile(double q) {
+        if (q < 0 || q > 1) {
+            throw new IllegalArgumentException("Quantile must lie in [0, 1]: " + q);
+        }
+        compress();
+        if (centroidCount == 0) {
+            return Double.NaN;
+        }
+        if (centroidCount == 1) {
+            return means[0];
+        }
+
+        double target = q * totalWeight;
+        // Each centroid's mean is taken to sit at the middle of its weight; interpolate between neighbours.
+        double cumulative = 0;
+        double previousCenter = 0;
+        double previousMean = min;
+        for (int i = 0; i < centroidCount; i++) {
+            double center = cumulative + weights[i] / 2;
+            if (target < center) {
+                double span = center - previousCenter;
+                double fraction = span == 0 ? 0 : (target - previousCenter) / span;
+                return previousMean + fraction * (means[i] - previousMean);
+            }
+            cumulative += weights[i];
+            previousCenter = center;
+            previousMean = means[i];
+        }
+        // Beyond the last centre: interpolate towards the maximum.
+        double span = totalWeight - previousCenter;
+        double fraction = span == 0 ? 1 : (target - previousCenter) / span;
+        return previousMean + fraction * (max - previousMean);
+    }
+
+    /**
+     * Merges the buffered values into the centroids.
+     */
+    private void compress() {
+        if (bufferCount == 0) {
+            return;
+        }
+
+        // Combine the centroids and the buffer, sorted by mean.
+        int n = centroidCount + bufferCount;
+        double[] allMeans = Arrays.copyOf(means, n);
+        double[] allWeights = Arrays.copyOf(weights, n);
+        System.arraycopy(bufferMeans, 0, allMeans, centroidCount, bufferCount);
+        System.arraycopy(bufferWeights, 0, allWeights, centroidCount, bufferCount);
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        Algorithms.sortArray(order, (a, b) -> Double.compare(allMeans[a], allMeans[b]));
+        bufferCount = 0;
+
+        // Sweep left to right, absorbing neighbours while the centroid stays within one k unit.
+        centroidCount = 0;
+        double weightSoFar = 0;
+        double mean = allMeans[order[0]];
+        double weight = allWeights[order[0]];
+        double kLeft = scale(0);
+        for (int j = 1; j < n; j++) {
+            int i = order[j];
+            double proposed = weight + allWeights[i];
+            if (scale((weightSoFar + proposed) / totalWeight) - kLeft <= 1) {
+                mean += (allMeans[i] - mean) * allWeights[i] / proposed;
+                weight = proposed;
+            } else {
+                appendCentroid(mean, weight);
+                weightSoFar += weight;
+                kLeft = scale(weightSoFar / totalWeight);
+                mean = allMeans[i];
+                weight = allWeights[i];
+            }
+        }
+        appendCentroid(mean, weight);
+    }
+
+    private void appendCentroid(double mean, double weight) {
+        if (centroidCount == means.length) {
+            means = Arrays.copyOf(means, centroidCount * 2);
+            weights = Arrays.copyOf(weights, centroidCount * 2);
+        }
+        means[centroidCount] = mean;
+        weights[centroidCount] = weight;
+        centroidCount++;
+    }
+
+    /**
+     * The scale function k1, which maps a quantile to the number of centroid
+     * units to its left.
+     */
+    private double scale(double q) {
+        return compression / (2 * Math.PI) * Math.asin(2 * Math.min(1, Math.max(0, q)) - 1);
+    }
+}
@@ -0,0 +1,99 @@
+package com.transfermarket.controller.datastructure;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD implementations of the column scans in {@link ColumnKernels}, built on
+ * the incubating Vector API. Each kernel processes as many lanes per
+ * instruction as the CPU's preferred vector width allows and finishes the
+ * remaining elements with a scalar tail loop.
+ *
+ * This class must only be reached through {@link ColumnKernels}, which falls
+ * back to scalar loops when the {@code jdk.incubator.vector} module is not
+ * present at run time.
+ *
+ * @author Samir Adhikari
+ */
+final class VectorKernels {
+
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    // Longs of the same total width as INTS, so one int vector widens into two of these.
+    private static final VectorSpecies<Long> LONGS
+            = VectorSpecies.of(long.class, VectorShape.forBitSize(INTS.vectorBitSize()));
+
+    private VectorKernels() {
+    }
+
+    /**
+     * Checks that the vector species are usable on this machine.
+     *
+     * @return true if the kernels can run.
+     */
+    static boolean isSupported() {
+        return DOUBLES.length() > 1 && INTS.length() > 1;
+    }
+
+    static double sum(double[] values, int length) {
+        DoubleVector acc = DoubleVector.zero(DOUBLES);
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(length); i < bound; i += DOUBLES.length()) {
+            acc = acc.add(DoubleVector.fromArray(DOUBLES, values, i));
+        }
+        double sum = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    static long sum(int[] values, int length) {
+        // Widen to long lanes before adding so large columns cannot overflow.
+        LongVector low = LongVector.zero(LONGS);
+        LongVector high = LongVector.zero(LONGS);
+        int i = 0;
+        for (int bound = INTS.loopBound(length); i < bound; i += INTS.length()) {
+            IntVector v = IntVector.fromArray(INTS, values, i);
+            low = low.add(v.convertShape(VectorOperators.I2L, LONGS, 0));
+            high = high.add(v.convertShape(VectorOperators.I2L, LONGS, 1));
+        }
+        long sum = low.add(high).reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    static int countAbove(double[] values, int length, double threshold) {
+        int count = 0;
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(length); i < bound; i += DOUBLES.length()) {
+            count += DoubleVector.fromArray(DOUBLES, values, i).compare(VectorOperators.GT, threshold).trueCount();
+        }
+        for (; i < length; i++) {
+            if (values[i] > threshold) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    static int countAbove(int[] values, int length, int threshold) {
+        int count = 0;
+        int i = 0;
+        for (int bound = INTS.loopBound(length); i < bound; i += INTS.length()) {
+            count += IntVector.fromArray(INTS, values, i).compare(VectorOperators.GT, threshold).trueCount();
+        }
+        for (; i < length; i++) {
+            if (values[i] > threshold) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
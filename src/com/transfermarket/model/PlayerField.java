@@ -0,0 +1,43 @@
+package com.transfermarket.model;
+
+/**
+ * Identifies the attributes of a {@link TransferModel} so that they can be
+ * named in sort, filter and grouping requests without passing getters around.
+ *
+ * @author Samir Adhikari
+ */
+public enum PlayerField {
+
+    /**
+     * The unique identifier of the player.
+     */
+    PLAYER_ID,
+    /**
+     * The name of the player.
+     */
+    PLAYER_NAME,
+    /**
+     * The position the player plays in.
+     */
+    POSITION,
+    /**
+     * The nationality of the player.
+     */
+    NATIONALITY,
+    /**
+     * The age of the player.
+     */
+    AGE,
+    /**
+     * The market value of the player.
+     */
+    MARKET_VALUE,
+    /**
+     * The remaining contract duration of the player.
+     */
+    CONTRACT_DURATION,
+    /**
+     * The goal contributions (goals + assists) of the player.
+     */
+    GOAL_CONTRIBUTION
+}
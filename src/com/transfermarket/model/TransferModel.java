@@ -1,5 +1,8 @@
 package com.transfermarket.model;
 
+import com.transfermarket.util.NameCollator;
+import java.text.CollationKey;
+
 /**
  * Represents a transfer market player with various attributes such as player
  * ID, name, position, nationality, age, market value, contract duration, and
@@ -14,12 +17,13 @@ public class TransferModel {
 
     private int playerId;
     private String playerName;
-    private String position;
-    private String nationality;
+    private short positionCode = Vocabulary.NO_CODE; // Code in Vocabulary.POSITIONS.
+    private short nationalityCode = Vocabulary.NO_CODE; // Code in Vocabulary.NATIONALITIES.
     private int age;
     private double marketValue;
     private int contractDuration;
     private int goalContribution;
+    private CollationKey playerNameKey; // Cached sort key of playerName, computed on first use.
 
     /**
      * Default constructor for TransferModel. Initializes a TransferModel object
@@ -33,9 +37,10 @@ public class TransferModel {
      *
      * @param playerId The unique identifier of the player.
      * @param playerName The name of the player.
-     * @param position The position the player plays in (e.g., Forward,
-     * Midfielder).
-     * @param nationality The nationality of the player.
+     * @param position The position the player plays in, one of
+     * {@link Vocabulary#POSITIONS} (e.g., ST, CB), or null.
+     * @param nationality The nationality of the player, one of
+     * {@link Vocabulary#NATIONALITIES}, or null.
      * @param age The age of the player.
      * @param marketValue The estimated market value of the player in monetary
      * terms.
@@ -43,14 +48,16 @@ public class TransferModel {
      * in years.
      * @param goalContribution The number of goals the player has contributed to
      * (goals + assists).
+     * @throws IllegalArgumentException If the position or nationality is not
+     * in the vocabulary.
      */
     // Constructor
     public TransferModel(int playerId, String playerName, String position, String nationality,
             int age, double marketValue, int contractDuration, int goalContribution) {
         this.playerId = playerId;
         this.playerName = playerName;
-        this.position = position;
-        this.nationality = nationality;
+        this.positionCode = Vocabulary.encode(Vocabulary.POSITIONS, position);
+        this.nationalityCode = Vocabulary.encode(Vocabulary.NATIONALITIES, nationality);
         this.age = age;
         this.marketValue = marketValue;
         this.contractDuration = contractDuration;
@@ -92,6 +99,23 @@ public class TransferModel {
      */
     public void setPlayerName(String playerName) {
         this.playerName = playerName;
+        this.playerNameKey = null;
+    }
+
+    /**
+     * Retrieves the collation key of the player's name, which defines the
+     * order of names used for sorting and searching. The key is computed once
+     * and cached until the name changes.
+     *
+     * @return The collation key of the player's name.
+     */
+    public CollationKey getPlayerNameKey() {
+        CollationKey key = playerNameKey;
+        if (key == null) {
+            key = NameCollator.keyOf(playerName);
+            playerNameKey = key;
+        }
+        return key;
     }
 
     /**
@@ -100,16 +124,29 @@ public class TransferModel {
      * @return The player's position.
      */
     public String getPosition() {
-        return position;
+        return Vocabulary.decode(Vocabulary.POSITIONS, positionCode);
+    }
+
+    /**
+     * Retrieves the dictionary code of the player's position, for fast
+     * equality tests and grouping.
+     *
+     * @return The code of the position in {@link Vocabulary#POSITIONS}, or
+     * {@link Vocabulary#NO_CODE} if the position is not set.
+     */
+    public short getPositionCode() {
+        return positionCode;
     }
 
     /**
      * Updates the position of the player.
      *
-     * @param position The new player position.
+     * @param position The new player position, one of
+     * {@link Vocabulary#POSITIONS}, or null.
+     * @throws IllegalArgumentException If the position is not in the vocabulary.
      */
     public void setPosition(String position) {
-        this.position = position;
+        this.positionCode = Vocabulary.encode(Vocabulary.POSITIONS, position);
     }
 
     /**
@@ -118,16 +155,29 @@ public class TransferModel {
      * @return The player's nationality.
      */
     public String getNationality() {
-        return nationality;
+        return Vocabulary.decode(Vocabulary.NATIONALITIES, nationalityCode);
+    }
+
+    /**
+     * Retrieves the dictionary code of the player's nationality, for fast
+     * equality tests and grouping.
+     *
+     * @return The code of the nationality in {@link Vocabulary#NATIONALITIES},
+     * or {@link Vocabulary#NO_CODE} if the nationality is not set.
+     */
+    public short getNationalityCode() {
+        return nationalityCode;
     }
 
     /**
      * Updates the nationality of the player.
      *
-     * @param nationality The new player nationality.
+     * @param nationality The new player nationality, one of
+     * {@link Vocabulary#NATIONALITIES}, or null.
+     * @throws IllegalArgumentException If the nationality is not in the vocabulary.
      */
     public void setNationality(String nationality) {
-        this.nationality = nationality;
+        this.nationalityCode = Vocabulary.encode(Vocabulary.NATIONALITIES, nationality);
     }
 
     /**
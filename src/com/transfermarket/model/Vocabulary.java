@@ -0,0 +1,73 @@
+package com.transfermarket.model;
+
+import com.transfermarket.controller.datastructure.StringDictionary;
+
+/**
+ * The shared dictionaries that encode the low-cardinality player attributes.
+ * Each {@link TransferModel} stores the small code of its position and
+ * nationality instead of its own string, and indexes, filters and group-by
+ * work on these codes.
+ *
+ * The dictionaries hold exactly the choices offered by the position and
+ * nationality combo boxes, in the same order, which are the only values the
+ * validation rules accept. They are fixed: encoding any other value fails
+ * rather than adding an entry, so the shared dictionaries never grow with the
+ * data passed through them.
+ *
+ * @author Samir Adhikari
+ */
+public final class Vocabulary {
+
+    /**
+     * Dictionary of player positions.
+     */
+    public static final StringDictionary POSITIONS = StringDictionary.fixed(
+            "GK", "LB", "RB", "CB", "CDM", "CM", "AMF", "RWF", "LWF", "ST");
+
+    /**
+     * Dictionary of player nationalities.
+     */
+    public static final StringDictionary NATIONALITIES = StringDictionary.fixed(
+            "Argentina", "Brazil", "Spain", "England", "France", "Nepal", "Belgium", "Slovakia", "Hungary", "Portugal");
+
+    /**
+     * The code stored for a missing (null) value.
+     */
+    public static final short NO_CODE = -1;
+
+    private Vocabulary() {
+    }
+
+    /**
+     * Encodes a value into a code small enough to store in a short.
+     *
+     * @param dictionary The dictionary to encode with.
+     * @param value The value to encode, or null.
+     * @return The code of the value, or {@link #NO_CODE} for null.
+     * @throws IllegalArgumentException If a fixed dictionary does not hold the
+     * value.
+     * @throws IllegalStateException If the dictionary has run out of short
+     * codes.
+     */
+    static short encode(StringDictionary dictionary, String value) {
+        if (value == null) {
+            return NO_CODE;
+        }
+        int code = dictionary.encode(value);
+        if (code > Short.MAX_VALUE) {
+            throw new IllegalStateException("Too many distinct values to encode: " + value);
+        }
+        return (short) code;
+    }
+
+    /**
+     * Decodes a code produced by {@link #encode(StringDictionary, String)}.
+     *
+     * @param dictionary The dictionary the code comes from.
+     * @param code The code to decode.
+     * @return The value, or null for {@link #NO_CODE}.
+     */
+    static String decode(StringDictionary dictionary, short code) {
+        return code == NO_CODE ? null : dictionary.decode(code);
+    }
+}
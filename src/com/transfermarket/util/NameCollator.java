@@ -0,0 +1,55 @@
+package com.transfermarket.util;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.Locale;
+
+/**
+ * Provides the single ordering used for player names everywhere in the
+ * Transfer Market application. Names are compared with a locale-aware
+ * {@link Collator}, so accented names such as "Núñez" or "Mbappé" sort next to
+ * their unaccented neighbours, and case is ignored so sorting and searching
+ * agree.
+ *
+ * Comparing through a Collator is expensive, so callers should compare
+ * {@link CollationKey}s, which are computed once per name (see
+ * {@link com.transfermarket.model.TransferModel#getPlayerNameKey()}).
+ *
+ * @author Samir Adhikari
+ */
+public class NameCollator {
+
+    private static final Collator COLLATOR = createCollator();
+
+    private NameCollator() {
+    }
+
+    /**
+     * Computes the collation key of a name. Keys of different names can be
+     * compared with {@link CollationKey#compareTo(CollationKey)}, which is a
+     * cheap byte comparison.
+     *
+     * @param name The name to compute the key for; null is treated as empty.
+     * @return The collation key of the name.
+     */
+    public static CollationKey keyOf(String name) {
+        // Collator instances are not thread-safe.
+        // Lower-cased first: secondary strength still tells a few case pairs apart, such as Ø and ø.
+        String folded = name == null ? "" : name.toLowerCase(Locale.ROOT);
+        synchronized (COLLATOR) {
+            return COLLATOR.getCollationKey(folded);
+        }
+    }
+
+    /**
+     * Creates the collator: secondary strength ignores case but keeps accents
+     * significant, and canonical decomposition makes precomposed and combining
+     * accents compare equal.
+     */
+    private static Collator createCollator() {
+        Collator collator = Collator.getInstance(Locale.ROOT);
+        collator.setStrength(Collator.SECONDARY);
+        collator.setDecomposition(Collator.CANONICAL_DECOMPOSITION);
+        return collator;
+    }
+}
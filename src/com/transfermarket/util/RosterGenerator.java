@@ -0,0 +1,279 @@
+package com.transfermarket.util;
+
+import com.transfermarket.controller.datastructure.MappedPlayerStore;
+import com.transfermarket.model.Vocabulary;
+import com.transfermarket.model.TransferModel;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Generates reproducible synthetic players for scale and load testing. The
+ * same seed always yields the same roster, and each player is derived from the
+ * seed and its index alone, so any player can be produced on its own, rosters
+ * can be generated in parallel, and nothing needs to be held in memory: the
+ * players are streamed to a consumer, a {@link Stream} or a
+ * {@link MappedPlayerStore} on disk.
+ *
+ * The values follow the input rules of {@link ValidationUtil} and the choices
+ * of the position and nationality combo boxes ({@link Vocabulary}), with a
+ * realistic skew: common first names and surnames recur far more often than
+ * rare ones, market values are log-normal (a few stars, many cheap players),
+ * goal contributions depend on position and age, and contracts cluster on
+ * whole years.
+ *
+ * Player IDs are consecutive from the first ID and unique within a roster.
+ * The Player ID rule of 1 to 10,000 therefore only holds for rosters of up to
+ * 10,000 players; larger rosters keep their IDs unique and go past that limit,
+ * so their players cannot be edited through the update form.
+ *
+ * @author Samir Adhikari
+ */
+public class RosterGenerator {
+
+    /**
+     * Seed used when none is given, so unconfigured runs are reproducible too.
+     */
+    public static final long DEFAULT_SEED = 42;
+
+    private static final String[] FIRST_NAMES = {"Lucas", "Mateo", "Leo", "Hugo", "Gabriel", "Daniel", "David",
+        "Marco", "Pedro", "Luis", "Diego", "Carlos", "Joao", "Rafael", "Bruno", "Thomas", "Kevin", "Harry",
+        "James", "Jack", "Oliver", "Kylian", "Antoine", "Ousmane", "Theo", "Jules", "Romelu", "Axel", "Youri",
+        "Milan", "Marek", "Dominik", "Peter", "Adam", "Bence", "Roland", "Patrik", "Bernardo", "Ruben",
+        "Nuno", "Sandesh", "Anil", "Bimal", "Rohit", "Enzo", "Julián", "Ángel", "Raphaël", "Sérgio", "Jérémy"};
+    private static final String[] SURNAMES = {"Silva", "Santos", "Fernandes", "Costa", "Pereira", "Rodríguez",
+        "González", "Martínez", "García", "López", "Fernández", "Álvarez", "Smith", "Jones", "Walker", "Stones",
+        "Martin", "Bernard", "Dubois", "Lefèvre", "Peeters", "Janssens", "Maes", "Kovács", "Szabó", "Tóth",
+        "Horváth", "Hamšík", "Škriniar", "Novák", "Shrestha", "Gurung", "Tamang", "Thapa", "Rai", "O'Brien",
+        "Dos Santos", "De Jong", "Van Dijk", "Oliveira", "Souza", "Lima", "Messi", "Di María", "Núñez"};
+    // Syllables of invented surnames, which give large rosters their long
+    // tail of rare names.
+    private static final String[] SURNAME_STARTS = {"Ka", "Mor", "Bel", "Dra", "Fen", "Gar", "Hal", "Ish",
+        "Jor", "Kel", "Lun", "Mar", "Nor", "Os", "Pra", "Quin", "Ros", "Sar", "Tor", "Val", "Wen", "Yar",
+        "Zel", "Ab", "Cor", "Del", "Est", "Fal", "Gil", "Har"};
+    private static final String[] SURNAME_ENDS = {"ani", "ello", "inho", "ovic", "enko", "ssen", "ard",
+        "ez", "ini", "oni", "sky", "ova", "ley", "ton", "berg", "mann", "ier", "etti", "ada", "ola", "ic",
+        "as", "os", "ur", "ek", "ák", "ens", "ieri", "amo", "uda"};
+
+    /**
+     * Share of a squad of each position, indexed by the position's code in
+     * {@link Vocabulary#POSITIONS}, whose first codes follow the combo box:
+     * defenders and midfielders are common, goalkeepers are rare.
+     */
+    private static final double[] POSITION_WEIGHTS = {6, 9, 9, 17, 9, 14, 9, 8, 8, 11};
+    /**
+     * Typical season goal contributions of each position, in the same order.
+     */
+    private static final double[] POSITION_GOAL_RATES = {0.5, 4, 4, 3, 5, 8, 14, 15, 15, 20};
+    /**
+     * Number of nationalities offered by the combo box, which hold the first
+     * codes of {@link Vocabulary#NATIONALITIES}.
+     */
+    private static final int NATIONALITY_COUNT = 10;
+
+    private static final double[] FIRST_NAME_CUMULATIVE = zipf(FIRST_NAMES.length);
+    private static final double[] SURNAME_CUMULATIVE = zipf(SURNAMES.length);
+    private static final double[] POSITION_CUMULATIVE = cumulative(POSITION_WEIGHTS);
+    private static final double[] NATIONALITY_CUMULATIVE = zipf(NATIONALITY_COUNT);
+
+    // Limits from ValidationUtil.
+    private static final int MIN_AGE = 16; // Validation allows 10; professionals start later.
+    private static final int MAX_AGE = 40;
+    private static final double MAX_MARKET_VALUE = 1000000000;
+    private static final int MAX_CONTRACT_DURATION = 96;
+    private static final int MAX_GOAL_CONTRIBUTION = 1500;
+
+    private final long seed;
+    private final int firstId;
+
+    /**
+     * Creates a generator whose player IDs start at 1.
+     *
+     * @param seed The seed; equal seeds produce equal rosters.
+     */
+    public RosterGenerator(long seed) {
+        this(seed, 1);
+    }
+
+    /**
+     * Creates a generator whose player IDs start at a given value, for
+     * example to append to a roster that already uses the lower IDs.
+     *
+     * @param seed The seed; equal seeds produce equal rosters.
+     * @param firstId The ID of the first generated player.
+     */
+    public RosterGenerator(long seed, int firstId) {
+        if (firstId < 1) {
+            throw new IllegalArgumentException("First player ID must be positive: " + firstId);
+        }
+        this.seed = seed;
+        this.firstId = firstId;
+    }
+
+    /**
+     * Retrieves the seed of this generator.
+     *
+     * @return The seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Retrieves the ID given to the first generated player.
+     *
+     * @return The first player ID.
+     */
+    public int getFirstId() {
+        return firstId;
+    }
+
+    /**
+     * Generates the player at an index of the roster. The result depends only
+     * on the seed and the index.
+     *
+     * @param index The zero-based index of the player.
+     * @return A new player with ID {@code firstId + index}.
+     */
+    public TransferModel player(long index) {
+        if (index < 0 || firstId + index > Integer.MAX_VALUE) {
+            throw new IndexOutOfBoundsException("No player ID for index " + index);
+        }
+        // SplittableRandom's mixing makes neighbouring indexes independent.
+        SplittableRandom random = new SplittableRandom(seed * 0x9E3779B97F4A7C15L + index);
+
+        int positionCode = pick(random, POSITION_CUMULATIVE);
+        String position = Vocabulary.POSITIONS.decode(positionCode);
+        String nationality = Vocabulary.NATIONALITIES.decode(pick(random, NATIONALITY_CUMULATIVE));
+        String name = FIRST_NAMES[pick(random, FIRST_NAME_CUMULATIVE)] + " " + surname(random);
+
+        // Ages peak in the mid twenties and thin out towards both ends.
+        int age = clamp((int) Math.round(26 + 4.5 * random.nextGaussian()), MIN_AGE, MAX_AGE);
+
+        // Log-normal around a median of 2,000 with a long tail of stars, less
+        // for players far from their peak age.
+        double agePenalty = Math.abs(age - 27) * 0.06;
+        double marketValue = 2000 * Math.exp(1.6 * random.nextGaussian() - agePenalty);
+        marketValue = Math.min(Math.round(marketValue * 100) / 100.0, MAX_MARKET_VALUE);
+
+        // Most contracts run whole years; a few end mid-season.
+        int contractDuration = random.nextInt(4) == 0
+                ? 1 + random.nextInt(MAX_CONTRACT_DURATION)
+                : 12 * (1 + random.nextInt(5));
+
+        // Career goal contributions grow with years played and position.
+        double seasons = Math.max(0, age - 17) * (0.5 + random.nextDouble());
+        double rate = POSITION_GOAL_RATES[positionCode] * Math.exp(0.6 * random.nextGaussian());
+        int goalContribution = clamp((int) Math.round(seasons * rate), 0, MAX_GOAL_CONTRIBUTION);
+
+        return new TransferModel((int) (firstId + index), name, position, nationality,
+                age, marketValue, contractDuration, goalContribution);
+    }
+
+    /**
+     * Generates a roster as a lazy stream. Players are created as the stream
+     * is consumed, and the stream may be made parallel without changing its
+     * contents.
+     *
+     * @param count The number of players.
+     * @return The players in ID order.
+     */
+    public Stream<TransferModel> stream(long count) {
+        return LongStream.range(0, count).mapToObj(this::player);
+    }
+
+    /**
+     * Generates a roster into a consumer, one player at a time.
+     *
+     * @param count The number of players.
+     * @param sink Receives the players in ID order.
+     */
+    public void generate(long count, Consumer<? super TransferModel> sink) {
+        for (long i = 0; i < count; i++) {
+            sink.accept(player(i));
+        }
+    }
+
+    /**
+     * Appends a generated roster to a memory-mapped player file, creating the
+     * file if needed. Only one player is held in memory at a time.
+     *
+     * @param file The player file.
+     * @param count The number of players to append.
+     * @throws IOException If the file cannot be opened or written.
+     */
+    public void writeTo(Path file, int count) throws IOException {
+        try (MappedPlayerStore store = MappedPlayerStore.open(file)) {
+            generate(count, store::add);
+            store.flush();
+        }
+    }
+
+    /**
+     * Builds a surname: usually a common real one, otherwise an invented one
+     * from two syllables, sometimes double-barrelled.
+     */
+    private static String surname(SplittableRandom random) {
+        String surname = random.nextInt(3) == 0
+                ? SURNAME_STARTS[random.nextInt(SURNAME_STARTS.length)] + SURNAME_ENDS[random.nextInt(SURNAME_ENDS.length)]
+                : SURNAMES[pick(random, SURNAME_CUMULATIVE)];
+        if (random.nextInt(20) == 0) {
+            surname += "-" + SURNAMES[pick(random, SURNAME_CUMULATIVE)];
+        }
+        return surname;
+    }
+
+    /**
+     * Picks an index with the probabilities of a cumulative distribution.
+     */
+    private static int pick(SplittableRandom random, double[] cumulative) {
+        double target = random.nextDouble() * cumulative[cumulative.length - 1];
+        int low = 0;
+        int high = cumulative.length - 1;
+        // Binary search for the first bucket ending above the target.
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (cumulative[middle] > target) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Builds the cumulative Zipf distribution over n ranks, under which rank
+     * k is chosen in proportion to 1 / k.
+     */
+    private static double[] zipf(int n) {
+        double[] weights = new double[n];
+        for (int k = 0; k < n; k++) {
+            weights[k] = 1.0 / (k + 1);
+        }
+        return cumulative(weights);
+    }
+
+    /**
+     * Builds the running sums of weights.
+     */
+    private static double[] cumulative(double[] weights) {
+        double[] sums = new double[weights.length];
+        double sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += weights[i];
+            sums[i] = sum;
+        }
+        return sums;
+    }
+
+    /**
+     * Limits a value to a range.
+     */
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
@@ -17,7 +17,7 @@ import javax.swing.border.TitledBorder;
  */
 public class ValidationUtil {
 
-    private static final Pattern NAME_PATTERN = Pattern.compile("^[a-zA-Z\\s'-]+$");
+    private static final Pattern NAME_PATTERN = Pattern.compile("^[\\p{L}\\p{M}\\s'-]+$");
 
     /**
      * Validates if a text field is not empty. Highlights the text field and
@@ -84,8 +84,8 @@ public class ValidationUtil {
     }
 
     /**
-     * Validates if the Player Name is not empty and contains only alphabets.
-     * Highlights the text field and displays an error message if validation
+     * Validates if the Player Name is not empty and contains only letters of
+     * any alphabet, accents, spaces, apostrophes and hyphens. Highlights the text field and displays an error message if validation
      * fails. Resets the field and error label if validation succeeds.
      *
      * @param playerName The Player Name to validate.
@@ -0,0 +1,333 @@
+package com.transfermarket.view;
+
+import com.transfermarket.controller.datastructure.IntHashIndex;
+import com.transfermarket.controller.datastructure.ObjectPlayerStore;
+import com.transfermarket.controller.datastructure.PlayerStore;
+import com.transfermarket.model.TransferModel;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import javax.swing.table.AbstractTableModel;
+
+/**
+ * The model of the transfer table. It shows the rows of a {@link PlayerStore}
+ * through a permutation: table row {@code r} shows store row
+ * {@code order[r]}, and every cell is read with the store's column accessor
+ * for that row, so no player object or row of boxed values is created to
+ * display it. Re-sorting replaces only the permutation and fires a single
+ * change event; the players themselves are neither copied nor moved.
+ * {@link #addPlayers(Collection)} likewise fires one event for a whole batch,
+ * so the table re-lays out and repaints once rather than once per row.
+ *
+ * A model created with {@link #PlayerTableModel()} keeps its players in an
+ * {@link ObjectPlayerStore}, so {@link #getPlayer(int)} returns the
+ * registered player objects and rows can be added, replaced and removed. A
+ * model created with {@link #PlayerTableModel(PlayerStore)} shows any store,
+ * such as a {@link com.transfermarket.controller.datastructure.ColumnarPlayerStore}
+ * or a {@link com.transfermarket.controller.datastructure.MappedPlayerStore},
+ * read-only.
+ *
+ * The row order is the order the rest of the window refers to by row index
+ * (selection, update, delete and search). The model keeps the row of every
+ * player ID up to date, as an index from player ID to store row plus the
+ * inverse of the permutation, so {@link #findRow(int)} needs no scan.
+ * Cells are read-only.
+ *
+ * @author Samir Adhikari
+ */
+public class PlayerTableModel extends AbstractTableModel {
+
+    private static final String[] COLUMN_NAMES = {" Player ID", " Player Name", " Position", " Nationality",
+        " Age", " Market Value($)", " Contract Duration", " G/A"};
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient PlayerStore store;
+    private final transient ObjectPlayerStore players; // The same store when the rows are editable, otherwise null.
+    private int[] order; // order[row] is the store row shown in a table row.
+    private int[] rowOf; // The inverse: rowOf[storeRow] is the table row showing a store row.
+    private transient IntHashIndex storeRows; // Player ID to store row.
+
+    /**
+     * Creates an empty, editable table.
+     */
+    public PlayerTableModel() {
+        players = new ObjectPlayerStore();
+        store = players;
+        indexRows();
+    }
+
+    /**
+     * Creates a read-only table showing the rows of a store in store order.
+     * The store must not change while the table shows it.
+     *
+     * @param store The rows to show.
+     */
+    public PlayerTableModel(PlayerStore store) {
+        this.store = store;
+        this.players = null;
+        indexRows();
+    }
+
+    /**
+     * Retrieves the player shown in a row.
+     *
+     * @param row The row index.
+     * @return The player of that row; the registered object itself for an
+     * editable table, a copy of the row otherwise.
+     */
+    public TransferModel getPlayer(int row) {
+        return store.get(storeRow(row));
+    }
+
+    /**
+     * Finds the row showing a player, with one lookup in the model's index of
+     * player IDs instead of a scan of the rows.
+     *
+     * @param playerId The player ID to look for.
+     * @return The row index, or -1 if no row shows the player.
+     */
+    public int findRow(int playerId) {
+        int storeRow = storeRows.get(playerId);
+        return storeRow == IntHashIndex.NO_VALUE ? -1 : rowOf[storeRow];
+    }
+
+    /**
+     * Retrieves the players in row order.
+     *
+     * @return A read-only view of the players, not a copy.
+     */
+    public List<TransferModel> getPlayers() {
+        final class RowView extends AbstractList<TransferModel> implements RandomAccess {
+
+            @Override
+            public TransferModel get(int index) {
+                return getPlayer(index);
+            }
+
+            @Override
+            public int size() {
+                return getRowCount();
+            }
+        }
+        return new RowView();
+    }
+
+    /**
+     * Appends a player as the last row.
+     *
+     * @param player The player to add.
+     */
+    public void addPlayer(TransferModel player) {
+        int row = append(player);
+        fireTableRowsInserted(row, row);
+    }
+
+    /**
+     * Appends players as the last rows, firing one insertion event for all of
+     * them instead of one per row.
+     *
+     * @param added The players to add, in row order.
+     */
+    public void addPlayers(Collection<? extends TransferModel> added) {
+        if (added.isEmpty()) {
+            return;
+        }
+        int firstRow = getRowCount();
+        for (TransferModel player : added) {
+            append(player);
+        }
+        fireTableRowsInserted(firstRow, getRowCount() - 1);
+    }
+
+    /**
+     * Replaces the player shown in a row.
+     *
+     * @param row The row index.
+     * @param player The new player of that row.
+     * @return The player previously shown in the row.
+     */
+    public TransferModel setPlayer(int row, TransferModel player) {
+        int storeRow = storeRow(row);
+        TransferModel previous = editable().set(storeRow, player);
+        if (storeRows.get(previous.getPlayerId()) == storeRow) {
+            storeRows.remove(previous.getPlayerId());
+        }
+        storeRows.put(player.getPlayerId(), storeRow);
+        fireTableRowsUpdated(row, row);
+        return previous;
+    }
+
+    /**
+     * Removes a row.
+     *
+     * @param row The row index.
+     * @return The player that was shown in the row.
+     */
+    public TransferModel removePlayer(int row) {
+        int storeRow = storeRow(row);
+        TransferModel removed = editable().get(storeRow);
+        if (storeRows.get(removed.getPlayerId()) == storeRow) {
+            storeRows.remove(removed.getPlayerId());
+        }
+        // The store fills the hole with its last row, whose table row must follow it.
+        int moved = players.remove(storeRow);
+        if (moved != -1) {
+            order[rowOf[moved]] = storeRow;
+            rowOf[storeRow] = rowOf[moved];
+            storeRows.put(players.getPlayerId(storeRow), storeRow);
+        }
+        int rowCount = players.size();
+        System.arraycopy(order, row + 1, order, row, rowCount - row);
+        for (int r = row; r < rowCount; r++) {
+            rowOf[order[r]] = r;
+        }
+        fireTableRowsDeleted(row, row);
+        return removed;
+    }
+
+    /**
+     * Shows the same players in a new order, given as a permutation of the
+     * store rows. Only the permutation is replaced; the array is used as it
+     * is and fires one change event, so the caller must not modify it
+     * afterwards.
+     *
+     * @param ordered The store row to show in each table row.
+     * @throws IllegalArgumentException If the array is not a permutation of
+     * the store rows.
+     */
+    public void setOrder(int[] ordered) {
+        int rowCount = store.size();
+        if (ordered.length != rowCount) {
+            throw new IllegalArgumentException("Expected " + rowCount + " rows, got " + ordered.length);
+        }
+        int[] inverse = new int[rowCount];
+        Arrays.fill(inverse, -1);
+        for (int row = 0; row < rowCount; row++) {
+            int storeRow = ordered[row];
+            if (storeRow < 0 || storeRow >= rowCount || inverse[storeRow] != -1) {
+                throw new IllegalArgumentException("Not a permutation of the rows: " + storeRow);
+            }
+            inverse[storeRow] = row;
+        }
+        order = ordered;
+        rowOf = inverse;
+        fireTableDataChanged();
+    }
+
+    /**
+     * Shows the same players in a new order, such as a sorted view of the
+     * {@link com.transfermarket.controller.PlayerRegistry}. Each player is
+     * matched to its row by player ID, and only the row permutation is
+     * replaced (see {@link #setOrder(int[])}).
+     *
+     * @param ordered The players in their new row order.
+     * @throws IllegalArgumentException If the players are not the ones shown.
+     */
+    public void setOrder(List<TransferModel> ordered) {
+        if (ordered.size() != store.size()) {
+            throw new IllegalArgumentException("Expected " + store.size() + " players, got " + ordered.size());
+        }
+        int[] permutation = new int[ordered.size()];
+        int row = 0;
+        for (TransferModel player : ordered) {
+            int storeRow = storeRows.get(player.getPlayerId());
+            if (storeRow == IntHashIndex.NO_VALUE) {
+                throw new IllegalArgumentException("Player " + player.getPlayerId() + " is not in the table");
+            }
+            permutation[row++] = storeRow;
+        }
+        setOrder(permutation);
+    }
+
+    @Override
+    public int getRowCount() {
+        return store.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMN_NAMES.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return COLUMN_NAMES[column];
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        int storeRow = storeRow(row);
+        switch (column) {
+            case 0:
+                return store.getPlayerId(storeRow);
+            case 1:
+                return store.getPlayerName(storeRow);
+            case 2:
+                return store.getPosition(storeRow);
+            case 3:
+                return store.getNationality(storeRow);
+            case 4:
+                return store.getAge(storeRow);
+            case 5:
+                return store.getMarketValue(storeRow);
+            case 6:
+                return store.getContractDuration(storeRow);
+            case 7:
+                return store.getGoalContribution(storeRow);
+            default:
+                throw new IndexOutOfBoundsException("No column " + column);
+        }
+    }
+
+    /**
+     * Shows the store in store order and indexes its player IDs.
+     */
+    private void indexRows() {
+        int rowCount = store.size();
+        int capacity = Math.max(16, rowCount);
+        order = new int[capacity];
+        rowOf = new int[capacity];
+        storeRows = new IntHashIndex(rowCount);
+        for (int row = 0; row < rowCount; row++) {
+            order[row] = row;
+            rowOf[row] = row;
+            storeRows.put(store.getPlayerId(row), row);
+        }
+    }
+
+    /**
+     * Adds a player to the store and shows it as the last row, without
+     * firing an event.
+     *
+     * @return The new table row.
+     */
+    private int append(TransferModel player) {
+        int storeRow = editable().add(player);
+        if (storeRow == order.length) {
+            int capacity = Math.max(16, storeRow * 2);
+            order = Arrays.copyOf(order, capacity);
+            rowOf = Arrays.copyOf(rowOf, capacity);
+        }
+        order[storeRow] = storeRow;
+        rowOf[storeRow] = storeRow;
+        storeRows.put(player.getPlayerId(), storeRow);
+        return storeRow;
+    }
+
+    private int storeRow(int row) {
+        if (row < 0 || row >= store.size()) {
+            throw new IndexOutOfBoundsException("Row: " + row + ", Size: " + store.size());
+        }
+        return order[row];
+    }
+
+    private ObjectPlayerStore editable() {
+        if (players == null) {
+            throw new UnsupportedOperationException("The rows of this table are read-only");
+        }
+        return players;
+    }
+}
@@ -1,14 +1,20 @@
 package com.transfermarket.view;
 
+import com.transfermarket.controller.PlayerRegistry;
 import com.transfermarket.model.TransferModel;
+import com.transfermarket.util.RosterGenerator;
 import com.transfermarket.util.ValidationUtil;
-import java.util.LinkedList;
-import javax.swing.table.DefaultTableModel;
 import java.awt.Color;
 import javax.swing.JOptionPane;
 import com.transfermarket.controller.datastructure.Algorithms;
+import com.transfermarket.controller.datastructure.PlayerSketches;
+import com.transfermarket.controller.datastructure.RunningStatistics;
 import javax.swing.JTable;
 import java.awt.Rectangle;
+import java.util.concurrent.ExecutionException;
+import java.util.function.IntConsumer;
+import javax.swing.ProgressMonitor;
+import javax.swing.SwingWorker;
 
 /**
  * Main application window for the Transfer Market system. Manages player
@@ -19,7 +25,32 @@ import java.awt.Rectangle;
  */
 public class TransferMarket extends javax.swing.JFrame {
 
-    private LinkedList<TransferModel> transferList;
+    /**
+     * Number of players listed by the "Top Value" and "Top G/A" options.
+     */
+    private static final int TOP_PLAYER_COUNT = 20;
+
+    /**
+     * Maximum number of names suggested while typing in the search field.
+     */
+    private static final int MAX_SEARCH_SUGGESTIONS = 8;
+
+    /**
+     * Number of characters of a searched name per allowed typo when no exact
+     * match is found; at least one typo is always allowed.
+     */
+    private static final int CHARACTERS_PER_TYPO = 4;
+
+    // Created before initComponents(), which installs it as the table model.
+    private final PlayerTableModel playerTable = new PlayerTableModel();
+    private PlayerRegistry playerRegistry;
+    private javax.swing.JPopupMenu searchSuggestions;
+    // State of the background sort and search, only used on the Event Dispatch Thread.
+    private SwingWorker<java.util.List<TransferModel>, Void> sortTask;
+    private SwingWorker<SearchResult, Void> searchTask;
+    private int sortGeneration; // Increased by every sort request; results of older ones are discarded.
+    private int searchGeneration; // Increased by every search request.
+    private int rosterVersion; // Increased by every add, update and delete.
     private java.awt.CardLayout cardLayout;
 
     /**
@@ -31,11 +62,12 @@ public class TransferMarket extends javax.swing.JFrame {
     public TransferMarket() {
         setResizable(false);
         initComponents();
-        transferList = new LinkedList<>();
+        playerRegistry = new PlayerRegistry();
         initializeLayout(); // Set up CardLayout and add screens
         startProgress();
         // Show loading screen and initiate progress
         initialTable();
+        installSearchSuggestions();
         // Add table mouse listener
         tblTransfer.addMouseListener(new java.awt.event.MouseAdapter() {
             public void mouseClicked(java.awt.event.MouseEvent evt) {
@@ -55,7 +87,7 @@ public class TransferMarket extends javax.swing.JFrame {
     private void tblTransferMouseClicked(java.awt.event.MouseEvent evt) {
         int selectedRow = tblTransfer.getSelectedRow();
         if (selectedRow != -1) {
-            TransferModel player = transferList.get(selectedRow);
+            TransferModel player = playerTable.getPlayer(selectedRow);
 
             txtPlayerId.setText(String.valueOf(player.getPlayerId()));
             txtPlayerName.setText(player.getPlayerName());
@@ -277,22 +309,7 @@ public class TransferMarket extends javax.swing.JFrame {
         tblTransfer.setBackground(new java.awt.Color(173, 216, 230));
         tblTransfer.setFont(new java.awt.Font("Serif", 0, 13)); // NOI18N
         tblTransfer.setForeground(new java.awt.Color(64, 64, 64));
-        tblTransfer.setModel(new javax.swing.table.DefaultTableModel(
-            new Object [][] {
-
-            },
-            new String [] {
-                " Player ID", " Player Name", " Position", " Nationality", " Age", " Market Value($)", " Contract Duration", " G/A"
-            }
-        ) {
-            boolean[] canEdit = new boolean [] {
-                false, false, false, false, false, false, false, false
-            };
-
-            public boolean isCellEditable(int rowIndex, int columnIndex) {
-                return canEdit [columnIndex];
-            }
-        });
+        tblTransfer.setModel(playerTable);
         tblTransfer.setGridColor(new java.awt.Color(135, 206, 235));
         tblTransfer.setRowHeight(30);
         tblTransfer.setSelectionBackground(new java.awt.Color(163, 3, 59));
@@ -426,7 +443,7 @@ public class TransferMarket extends javax.swing.JFrame {
         lblErrorPosition.setHorizontalAlignment(javax.swing.SwingConstants.CENTER);
 
         comboSorting.setFont(new java.awt.Font("Helvetica Neue", 0, 10)); // NOI18N
-        comboSorting.setModel(new javax.swing.DefaultComboBoxModel<>(new String[] { "Options", "Age", "G/A", "Name" }));
+        comboSorting.setModel(new javax.swing.DefaultComboBoxModel<>(new String[] { "Options", "Age", "G/A", "Name", "Top Value", "Top G/A", "Filter" }));
         comboSorting.setBorder(javax.swing.BorderFactory.createTitledBorder(null, "Sort By", javax.swing.border.TitledBorder.DEFAULT_JUSTIFICATION, javax.swing.border.TitledBorder.DEFAULT_POSITION, new java.awt.Font("Helvetica Neue", 0, 10))); // NOI18N
         comboSorting.setPreferredSize(new java.awt.Dimension(75, 45));
 
@@ -1205,21 +1222,45 @@ public class TransferMarket extends javax.swing.JFrame {
     private void initialTable() {
         TransferModel transfer = new TransferModel(1, "Lionel Messi", "AMF", "Argentina",
                 34, 300000, 48, 112);
-        transferList.add(transfer);
-        registerPlayer(transfer);
+        addPlayer(transfer);
         TransferModel transfer1 = new TransferModel(2, "Samir Adhikari", "CB", "Nepal",
                 20, 1000, 12, 10);
-        transferList.add(transfer1);
-        registerPlayer(transfer1);
+        addPlayer(transfer1);
         TransferModel transfer2 = new TransferModel(3, "Cristiano Ronaldo", "ST", "Portugal",
                 39, 100000, 36, 70);
-        transferList.add(transfer2);
-        registerPlayer(transfer2);
+        addPlayer(transfer2);
         TransferModel transfer3 = new TransferModel(4, "Lamine Yamal", "RWF", "Spain",
                 17, 50000, 40, 60);
-        transferList.add(transfer3);
-        registerPlayer(transfer3);
+        addPlayer(transfer3);
+        loadSyntheticPlayers(transfer3.getPlayerId() + 1);
+    }
 
+    /**
+     * Appends generated players for scale and load testing when the
+     * {@code transfermarket.syntheticPlayers} system property gives their
+     * number; {@code transfermarket.seed} selects the roster (default
+     * {@link RosterGenerator#DEFAULT_SEED}). For example,
+     * {@code -Dtransfermarket.syntheticPlayers=100000} starts the application
+     * with 100,000 extra players. The table and the statistics are updated
+     * once at the end rather than after every player.
+     *
+     * @param firstId The ID of the first generated player.
+     */
+    private void loadSyntheticPlayers(int firstId) {
+        int count = Integer.getInteger("transfermarket.syntheticPlayers", 0);
+        if (count <= 0) {
+            return;
+        }
+        long seed = Long.getLong("transfermarket.seed", RosterGenerator.DEFAULT_SEED);
+        java.util.List<TransferModel> players = new java.util.ArrayList<>(count);
+        new RosterGenerator(seed, firstId).generate(count, player -> {
+            playerRegistry.add(player);
+            players.add(player);
+        });
+        // One table event for the whole batch
+        playerTable.addPlayers(players);
+        rosterVersion++;
+        showStatistics();
     }
 
     /**
@@ -1232,7 +1273,7 @@ public class TransferMarket extends javax.swing.JFrame {
      * Value, Contract Duration, and Goal Contribution using
      * {@link ValidationUtil}. - Checks for duplicate Player IDs in the existing
      * transfer list. - If all validations pass, creates a new
-     * {@link TransferModel} object and adds it to the {@code transferList} and
+     * {@link TransferModel} object and adds it to the player registry and
      * the table after user confirmation. - Displays appropriate error messages
      * for invalid inputs. - Clears all input fields and resets error labels if
      * a player is successfully added. - Cancels the addition if the user
@@ -1292,13 +1333,7 @@ public class TransferMarket extends javax.swing.JFrame {
             int goalContribution = Integer.parseInt(goalContributionString);
 
             //Check for Duplicate playerId as playerId serves as the primary key for all the players.
-            boolean isDuplicate = false;
-            for (TransferModel player : transferList) {
-                if (player.getPlayerId() == playerId) {
-                    isDuplicate = true;
-                    break;
-                }
-            }
+            boolean isDuplicate = playerRegistry.containsId(playerId);
             if (isDuplicate) {
                 lblErrorPlayerId.setText("Player ID already exists.");
                 lblErrorPlayerId.setForeground(Color.RED);
@@ -1315,8 +1350,7 @@ public class TransferMarket extends javax.swing.JFrame {
             if (response == JOptionPane.YES_OPTION) {
                 // Create the player entity and add that entity to the list and table after user's confirmation.
                 TransferModel player = new TransferModel(playerId, playerName, playerPosition, nationality, age, marketValue, contractDuration, goalContribution);
-                transferList.add(player);
-                registerPlayer(player);
+                addPlayer(player);
                 JOptionPane.showMessageDialog(this, "Player added successfully!");
                 // Input fields are cleared and the individual error labels are reset after the player is added successfully.
                 clearAllFields();
@@ -1327,30 +1361,54 @@ public class TransferMarket extends javax.swing.JFrame {
         }
     }
 
+    /**
+     * Adds a player to the player registry and the table.
+     *
+     * @param player the {@link TransferModel} object to add
+     */
+    private void addPlayer(TransferModel player) {
+        playerRegistry.add(player);
+        rosterVersion++;
+        registerPlayer(player);
+        showStatistics();
+    }
+
+    /**
+     * Shows the live roster statistics kept by the {@link PlayerRegistry} as
+     * the tooltip of the table title. The figures are maintained on every
+     * change, so this only formats them.
+     */
+    private void showStatistics() {
+        RunningStatistics statistics = playerRegistry.getStatistics();
+        StringBuilder text = new StringBuilder("<html>");
+        text.append("Players: ").append(statistics.getCount());
+        text.append("<br>Total squad value: ").append(String.format("%.2f", statistics.getTotalMarketValue()));
+        text.append("<br>Mean market value: ").append(String.format("%.2f", statistics.getMeanMarketValue()));
+        text.append(" (standard deviation ").append(String.format("%.2f", Math.sqrt(statistics.getMarketValueVariance())))
+                .append(')');
+        text.append("<br>Mean age: ").append(String.format("%.1f", statistics.getMeanAge()));
+        text.append("<br>Players per position: ");
+        statistics.getPositionCounts().forEach((position, count) -> text.append(position).append(' ').append(count).append("  "));
+        text.append("<br>Value per nationality: ");
+        statistics.getNationalityMarketValues().forEach((nationality, value)
+                -> text.append(nationality).append(' ').append(String.format("%.2f", value)).append("  "));
+        text.append("</html>");
+        lblTblTransferTitle.setToolTipText(text.toString());
+    }
+
     /**
      * Registers a player to the transfer list table.
      *
-     * This method takes a {@link TransferModel} object representing a player's
-     * information and adds its details to the transfer list table. It populates
-     * the table with relevant attributes like Player ID, Name, Position,
-     * Nationality, Age, Market Value, Contract Duration, and Goal Contribution.
+     * This method appends the {@link TransferModel} object as the last row of
+     * the {@link PlayerTableModel}, which reads the Player ID, Name, Position,
+     * Nationality, Age, Market Value, Contract Duration, and Goal Contribution
+     * straight from it when the row is displayed.
      *
      * @param player the {@link TransferModel} object containing the details of
      * the player to register
      */
     private void registerPlayer(TransferModel player) {
-        DefaultTableModel model = (DefaultTableModel) tblTransfer.getModel();
-        model.addRow(new Object[]{
-            player.getPlayerId(),
-            player.getPlayerName(),
-            player.getPosition(),
-            player.getNationality(),
-            player.getAge(),
-            player.getMarketValue(),
-            player.getContractDuration(),
-            player.getGoalContribution()
-        });
-
+        playerTable.addPlayer(player);
     }
 
     /**
@@ -1531,11 +1589,11 @@ public class TransferMarket extends javax.swing.JFrame {
                 JOptionPane.QUESTION_MESSAGE);
         //If user proceeds with the yes option
         if (response == JOptionPane.YES_OPTION) {
-            //Remove the row from the table 
-            DefaultTableModel model = (DefaultTableModel) tblTransfer.getModel();
-            model.removeRow(selectedRow);
-            // Remove the corresponding entity from the LinkedList
-            transferList.remove(selectedRow);
+            // Remove the row from the table and the player from the registry
+            TransferModel removedPlayer = playerTable.removePlayer(selectedRow);
+            playerRegistry.remove(removedPlayer);
+            rosterVersion++;
+            showStatistics();
             //Confirmation Message
             JOptionPane.showMessageDialog(
                     this,
@@ -1622,7 +1680,8 @@ public class TransferMarket extends javax.swing.JFrame {
             int contractDuration = Integer.parseInt(contractDurationString);
             int goalContribution = Integer.parseInt(goalContributionString);
             // Check for duplicate PlayerID, excluding the current player
-            boolean isDuplicate = false;
+            TransferModel existing = playerRegistry.findById(playerId);
+            boolean isDuplicate = existing != null && existing != playerTable.getPlayer(selectedRow);
             if (isDuplicate) {
                 lblErrorPlayerId.setText("Player ID already exists.");
                 lblErrorPlayerId.setForeground(Color.RED);
@@ -1636,18 +1695,11 @@ public class TransferMarket extends javax.swing.JFrame {
             if (response == JOptionPane.YES_OPTION) {
                 // Create updated player object
                 TransferModel updatedPlayer = new TransferModel(playerId, playerName, playerPosition, nationality, age, marketValue, contractDuration, goalContribution);
-                // Update the list
-                transferList.set(selectedRow, updatedPlayer);
-                // Update the table
-                DefaultTableModel model = (DefaultTableModel) tblTransfer.getModel();
-                model.setValueAt(playerId, selectedRow, 0);
-                model.setValueAt(playerName, selectedRow, 1);
-                model.setValueAt(playerPosition, selectedRow, 2);
-                model.setValueAt(nationality, selectedRow, 3);
-                model.setValueAt(age, selectedRow, 4);
-                model.setValueAt(marketValue, selectedRow, 5);
-                model.setValueAt(contractDuration, selectedRow, 6);
-                model.setValueAt(goalContribution, selectedRow, 7);
+                // Update the table row and the registry
+                TransferModel previousPlayer = playerTable.setPlayer(selectedRow, updatedPlayer);
+                playerRegistry.update(previousPlayer, updatedPlayer);
+                rosterVersion++;
+                showStatistics();
 
                 JOptionPane.showMessageDialog(this,
                         "Player updated successfully!",
@@ -1672,67 +1724,294 @@ public class TransferMarket extends javax.swing.JFrame {
      * @param evt The action event triggered by the sort button click
      */
     private void btnSortActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_btnSortActionPerformed
-        // This button helps us to sort the Linked list and the table on the basis of the option selected in the combobox:
+        // This button helps us to sort the table on the basis of the option selected in the combobox:
         String selectedOption = comboSorting.getSelectedItem().toString();
         sortPlayers(selectedOption);
     }//GEN-LAST:event_btnSortActionPerformed
 
     /**
      * Sorts the players list based on the specified criteria and updates the
-     * table display. Implements different sorting algorithms based on the
-     * criteria: - Age: Merge Sort - Name: Selection Sort - G/A: Insertion Sort
+     * table display. The sorted order is read from the views kept by the
+     * {@link PlayerRegistry}, which are maintained on every add, update and
+     * delete, so no sorting happens here; copying a view of a large roster
+     * still takes a while, so it runs in the background (see
+     * {@link #startSort(String)}).
      *
      * @param criteria The sorting criteria selected by the user ("Age", "Name",
-     * or "G/A")
+     * "G/A", "Top Value", "Top G/A" or "Filter")
      */
     private void sortPlayers(String criteria) {
         switch (criteria) {
             case "Age":
-                transferList = Algorithms.mergeSortByAge(transferList); // Merge Sort
-                break;
             case "Name":
-                transferList = Algorithms.selectionSortByName(transferList); // Selection Sort by Name
-                break;
             case "G/A":
-                transferList = Algorithms.insertionSortByGoalContribution(transferList); // Insertion Sort
+                startSort(criteria);
+                break;
+            case "Top Value":
+            case "Top G/A":
+                showTopPlayers(criteria);
+                break;
+            case "Filter":
+                filterPlayers();
                 break;
             default:
                 JOptionPane.showMessageDialog(this, "Please select a valid sorting option.");
-                return;
         }
+    }
+
+    /**
+     * Copies the sorted view of the {@link PlayerRegistry} on a background
+     * thread, keeping the window responsive, and shows the result in the
+     * table in one step when it is ready. A progress dialog appears if the
+     * copy takes long, and its Cancel button stops it.
+     *
+     * A new sort request cancels the one in flight, and a result that arrives
+     * after a newer request is discarded. If players were added, updated or
+     * deleted while sorting, the result no longer matches the table and the
+     * sort is started again on the current roster.
+     *
+     * @param criteria The sorting criteria ("Age", "Name" or "G/A")
+     */
+    private void startSort(String criteria) {
+        if (sortTask != null) {
+            sortTask.cancel(true); // Superseded by this request
+        }
+        int generation = ++sortGeneration;
+        int version = rosterVersion;
+        ProgressMonitor monitor = new ProgressMonitor(this, "Sorting players by " + criteria + "...", null, 0, 100);
 
-        // Update the table with the sorted list
-        updateTable();
+        sortTask = new SwingWorker<java.util.List<TransferModel>, Void>() {
+            @Override
+            protected java.util.List<TransferModel> doInBackground() {
+                IntConsumer progress = this::setProgress;
+                switch (criteria) {
+                    case "Age":
+                        return playerRegistry.playersByAge(progress);
+                    case "Name":
+                        return playerRegistry.playersByName(progress);
+                    default:
+                        return playerRegistry.playersByGoalContribution(progress);
+                }
+            }
+
+            @Override
+            protected void done() {
+                monitor.close();
+                if (isCancelled() || generation != sortGeneration) {
+                    return; // Cancelled or replaced by a newer sort
+                }
+                sortTask = null;
+                java.util.List<TransferModel> sortedPlayers;
+                try {
+                    sortedPlayers = get();
+                } catch (InterruptedException | ExecutionException e) {
+                    JOptionPane.showMessageDialog(TransferMarket.this, "Sorting failed: " + e.getMessage(),
+                            "Error", JOptionPane.ERROR_MESSAGE);
+                    return;
+                }
+                if (version != rosterVersion) {
+                    // The roster changed while sorting, so sort it again
+                    startSort(criteria);
+                    return;
+                }
+                // Update the table with the sorted list
+                updateTable(sortedPlayers);
+            }
+        };
+        trackProgress(sortTask, monitor);
+        sortTask.execute();
     }
 
     /**
-     * Updates the table display with the current data from the transfer list.
-     * Clears the existing table content and repopulates it with all player
-     * information.
+     * Shows the progress of a background task in a progress dialog and
+     * cancels the task when the dialog's Cancel button is pressed.
+     *
+     * @param task The background task
+     * @param monitor The progress dialog, from 0 to 100 percent
      */
-    private void updateTable() {
-        DefaultTableModel model = (DefaultTableModel) tblTransfer.getModel();
-        model.setRowCount(0);
-
-        for (TransferModel player : transferList) {
-            model.addRow(new Object[]{
-                player.getPlayerId(),
-                player.getPlayerName(),
-                player.getPosition(),
-                player.getNationality(),
-                player.getAge(),
-                player.getMarketValue(),
-                player.getContractDuration(),
-                player.getGoalContribution()
-            });
+    private static void trackProgress(SwingWorker<?, ?> task, ProgressMonitor monitor) {
+        task.addPropertyChangeListener(evt -> {
+            if ("progress".equals(evt.getPropertyName())) {
+                monitor.setProgress((Integer) evt.getNewValue());
+            }
+            if (monitor.isCanceled()) {
+                task.cancel(true);
+            }
+        });
+    }
+
+    /**
+     * Shows the best {@link #TOP_PLAYER_COUNT} players by market value or goal
+     * contributions in a dialog. Uses the bounded-heap top-K selection from
+     * {@link Algorithms}, so the transfer list and the table keep their current
+     * order. Below them, the dialog gives the approximate median and 90th
+     * percentile of the whole roster from {@link PlayerRegistry#getSketches()}.
+     *
+     * @param criteria The ranking criteria selected by the user ("Top Value"
+     * or "Top G/A")
+     */
+    private void showTopPlayers(String criteria) {
+        boolean byValue = criteria.equals("Top Value");
+        java.util.List<TransferModel> topPlayers = byValue
+                ? Algorithms.topByMarketValue(playerTable.getPlayers(), TOP_PLAYER_COUNT)
+                : Algorithms.topByGoalContribution(playerTable.getPlayers(), TOP_PLAYER_COUNT);
+
+        // Build a ranked list of the selected players
+        StringBuilder message = new StringBuilder();
+        int rank = 1;
+        for (TransferModel player : topPlayers) {
+            message.append(rank++).append(". ").append(player.getPlayerName()).append(" - ")
+                    .append(byValue ? "$" + player.getMarketValue() : player.getGoalContribution() + " G/A")
+                    .append("\n");
+        }
+        // Where the rest of the roster stands, from the registry's quantile sketches
+        PlayerSketches sketches = playerRegistry.getSketches();
+        if (sketches.size() > 0) {
+            double median = byValue ? sketches.marketValueQuantile(0.5) : sketches.goalContributionQuantile(0.5);
+            double p90 = byValue ? sketches.marketValueQuantile(0.9) : sketches.goalContributionQuantile(0.9);
+            String format = byValue ? "$%.2f" : "%.0f G/A";
+            message.append("\nRoster median: ").append(String.format(format, median))
+                    .append("\nRoster 90th percentile: ").append(String.format(format, p90))
+                    .append(" (approximate)");
         }
+        JOptionPane.showMessageDialog(this, message.toString(),
+                "Top " + topPlayers.size() + (byValue ? " by Market Value" : " by G/A"),
+                JOptionPane.INFORMATION_MESSAGE);
     }
 
+    /**
+     * Brings the players that play the position and come from the country
+     * chosen in the player form to the top of the table and selects them; a
+     * combo box left at its placeholder accepts every value. The matching
+     * players are read from the bitmap indexes of the {@link PlayerRegistry}
+     * (see {@link PlayerRegistry#filter(java.util.Collection, java.util.Collection)}),
+     * so no row is inspected to find them. Both groups keep their current
+     * relative order.
+     */
+    private void filterPlayers() {
+        java.util.List<String> positions = comboPosition.getSelectedIndex() > 0
+                ? java.util.List.of(comboPosition.getSelectedItem().toString()) : java.util.List.of();
+        java.util.List<String> nationalities = comboNationality.getSelectedIndex() > 0
+                ? java.util.List.of(comboNationality.getSelectedItem().toString()) : java.util.List.of();
+        if (positions.isEmpty() && nationalities.isEmpty()) {
+            JOptionPane.showMessageDialog(this, "Please select a position or a country to filter by.");
+            return;
+        }
+
+        if (sortTask != null) {
+            sortTask.cancel(true); // Its result would undo the filter
+            sortTask = null;
+        }
+        java.util.List<TransferModel> matches = playerRegistry.filter(positions, nationalities);
+        int rowCount = playerTable.getRowCount();
+        boolean[] matched = new boolean[rowCount];
+        for (TransferModel player : matches) {
+            int row = playerTable.findRow(player.getPlayerId());
+            if (row != -1) {
+                matched[row] = true;
+            }
+        }
+        // Matching rows first, then the others, each in their current order
+        java.util.List<TransferModel> ordered = new java.util.ArrayList<>(rowCount);
+        for (int row = 0; row < rowCount; row++) {
+            if (matched[row]) {
+                ordered.add(playerTable.getPlayer(row));
+            }
+        }
+        int matchCount = ordered.size();
+        for (int row = 0; row < rowCount; row++) {
+            if (!matched[row]) {
+                ordered.add(playerTable.getPlayer(row));
+            }
+        }
+        updateTable(ordered);
+
+        tblTransfer.clearSelection();
+        if (matchCount > 0) {
+            tblTransfer.setRowSelectionInterval(0, matchCount - 1);
+            tblTransfer.scrollRectToVisible(tblTransfer.getCellRect(0, 0, true));
+        }
+        JOptionPane.showMessageDialog(this, matchCount + " of " + rowCount + " players match.",
+                "Filter", JOptionPane.INFORMATION_MESSAGE);
+    }
 
+    /**
+     * Updates the table display to show the players in a new order. The
+     * {@link PlayerTableModel} only replaces its row permutation, without
+     * copying or moving the players, and repaints the table once.
+     *
+     * @param sortedPlayers All players in their new order
+     */
+    private void updateTable(java.util.List<TransferModel> sortedPlayers) {
+        playerTable.setOrder(sortedPlayers);
+    }
+
+
+    /**
+     * Handles the Enter key in the search field by running the search.
+     *
+     * @param evt The action event triggered by the search field
+     */
     private void txtSearchValueActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_txtSearchValueActionPerformed
-        // TODO add your handling code here:
+        searchSuggestions.setVisible(false);
+        btnSearchActionPerformed(evt);
     }//GEN-LAST:event_txtSearchValueActionPerformed
 
+    /**
+     * Sets up the suggestion popup of the search field. Every edit of the
+     * search text looks the prefix up in the name index of the
+     * {@link PlayerRegistry} and lists the matching names below the field.
+     */
+    private void installSearchSuggestions() {
+        searchSuggestions = new javax.swing.JPopupMenu();
+        searchSuggestions.setFocusable(false); // Keep the focus in the search field while typing
+
+        txtSearchValue.getDocument().addDocumentListener(new javax.swing.event.DocumentListener() {
+            @Override
+            public void insertUpdate(javax.swing.event.DocumentEvent e) {
+                javax.swing.SwingUtilities.invokeLater(() -> showSearchSuggestions());
+            }
+
+            @Override
+            public void removeUpdate(javax.swing.event.DocumentEvent e) {
+                javax.swing.SwingUtilities.invokeLater(() -> showSearchSuggestions());
+            }
+
+            @Override
+            public void changedUpdate(javax.swing.event.DocumentEvent e) {
+                // Attribute changes don't affect the suggestions
+            }
+        });
+    }
+
+    /**
+     * Shows the names that start with the current search text. Choosing a
+     * suggestion fills in the search field and runs the search.
+     */
+    private void showSearchSuggestions() {
+        searchSuggestions.setVisible(false);
+        searchSuggestions.removeAll();
+
+        // Skip the placeholder text and programmatic changes while the field isn't focused
+        String prefix = txtSearchValue.getText().trim();
+        if (prefix.isEmpty() || !txtSearchValue.isFocusOwner()) {
+            return;
+        }
+
+        for (String name : playerRegistry.suggestNames(prefix, MAX_SEARCH_SUGGESTIONS)) {
+            javax.swing.JMenuItem item = new javax.swing.JMenuItem(name);
+            item.addActionListener(evt -> {
+                searchSuggestions.setVisible(false);
+                txtSearchValue.setText(name);
+                btnSearchActionPerformed(evt);
+            });
+            searchSuggestions.add(item);
+        }
+        if (searchSuggestions.getComponentCount() > 0) {
+            searchSuggestions.show(txtSearchValue, 0, txtSearchValue.getHeight());
+        }
+    }
+
     /**
      * Highlights and scrolls to the specified row in the table. If the row
      * exists, selects and scrolls to make it visible. Shows a message dialog if
@@ -1752,8 +2031,115 @@ public class TransferMarket extends javax.swing.JFrame {
     }
 
     /**
-     * Handles the search button action event. Performs binary search on the
-     * name-sorted transfer list and highlights matching results. Shows
+     * Outcome of a background search: the players found in the registry.
+     */
+    private static final class SearchResult {
+
+        private java.util.List<TransferModel> matches = java.util.List.of(); // Players with the exact name
+        private TransferModel similar; // Closest spelling if nothing matched exactly, or null
+    }
+
+    /**
+     * Finds the first table row that shows one of the given players, with
+     * one index lookup per player in the {@link PlayerTableModel}.
+     *
+     * @param players The players to look for
+     * @return The index of the first matching row, or -1 if none matches
+     */
+    private int findRow(java.util.List<TransferModel> players) {
+        int first = -1;
+        for (TransferModel player : players) {
+            int row = playerTable.findRow(player.getPlayerId());
+            if (row != -1 && (first == -1 || row < first)) {
+                first = row;
+            }
+        }
+        return first;
+    }
+
+    /**
+     * Looks a name up on a background thread, keeping the window responsive:
+     * first in the {@link PlayerRegistry} name index, then, when there is no
+     * exact match, in its fuzzy name index for the closest spelling. The row
+     * of the found player is then looked up in the row index of the table,
+     * so the table is never scanned.
+     *
+     * A new search cancels the one in flight.
+     *
+     * @param searchName The name to look for
+     */
+    private void startSearch(String searchName) {
+        if (searchTask != null) {
+            searchTask.cancel(true); // Superseded by this request
+        }
+        int generation = ++searchGeneration;
+        int maxTypos = Math.max(1, searchName.length() / CHARACTERS_PER_TYPO);
+
+        searchTask = new SwingWorker<SearchResult, Void>() {
+            @Override
+            protected SearchResult doInBackground() {
+                SearchResult result = new SearchResult();
+                // Look the name up in the name index instead of sorting the list
+                result.matches = playerRegistry.findByName(searchName);
+                if (result.matches.isEmpty()) {
+                    java.util.List<TransferModel> similar = playerRegistry.findSimilarNames(searchName, maxTypos);
+                    result.similar = similar.isEmpty() ? null : similar.get(0);
+                }
+                return result;
+            }
+
+            @Override
+            protected void done() {
+                if (isCancelled() || generation != searchGeneration) {
+                    return; // Cancelled or replaced by a newer search
+                }
+                searchTask = null;
+                try {
+                    showSearchResult(get());
+                } catch (InterruptedException | ExecutionException e) {
+                    JOptionPane.showMessageDialog(TransferMarket.this, "Search failed: " + e.getMessage(),
+                            "Error", JOptionPane.ERROR_MESSAGE);
+                }
+            }
+        };
+        searchTask.execute();
+    }
+
+    /**
+     * Highlights the row of an exact match. Otherwise offers the closest
+     * spelling of the name, using the fuzzy name index of the
+     * {@link PlayerRegistry}, and highlights that player if the user accepts
+     * the suggestion.
+     *
+     * @param result The outcome of the search
+     */
+    private void showSearchResult(SearchResult result) {
+        // Rows are looked up now, on the Event Dispatch Thread, so they match the current table
+        int row = findRow(result.matches);
+        if (row != -1) {
+            // Highlight the row in the table
+            highlightRow(tblTransfer, row);
+            return;
+        }
+        if (result.similar == null) {
+            JOptionPane.showMessageDialog(null, "Player not found.", "Info", JOptionPane.INFORMATION_MESSAGE);
+            return;
+        }
+
+        int response = JOptionPane.showConfirmDialog(this,
+                "Player not found. Did you mean " + result.similar.getPlayerName() + "?",
+                "Search Result",
+                JOptionPane.YES_NO_OPTION,
+                JOptionPane.QUESTION_MESSAGE);
+        if (response == JOptionPane.YES_OPTION) {
+            highlightRow(tblTransfer, findRow(java.util.List.of(result.similar)));
+        }
+    }
+
+    /**
+     * Handles the search button action event. Starts a background search for
+     * the name (see {@link #startSearch(String)}), which highlights the first
+     * matching row and leaves the current table order untouched. Shows
      * appropriate messages for empty search or no results found.
      *
      * @param evt The action event triggered by the search button
@@ -1762,18 +2148,7 @@ public class TransferMarket extends javax.swing.JFrame {
         String searchName = txtSearchValue.getText().trim();
 
         if (!searchName.isEmpty()) {
-            // Sort the list by name before performing binary search
-            transferList = Algorithms.selectionSortByName(transferList);
-            updateTable();
-            // Use the binarySearchByName method from Algorithms class
-            int rowIndex = Algorithms.binarySearchByName(transferList, searchName);
-
-            if (rowIndex != -1) {
-                // Highlight the row in the table
-                highlightRow(tblTransfer, rowIndex);
-            } else {
-                JOptionPane.showMessageDialog(null, "Player not found.", "Info", JOptionPane.INFORMATION_MESSAGE);
-            }
+            startSearch(searchName);
         } else {
             JOptionPane.showMessageDialog(null, "Please enter a player name to search.", "Error", JOptionPane.ERROR_MESSAGE);
         }
@@ -0,0 +1,189 @@
+package com.transfermarket.controller;
+
+import com.transfermarket.controller.datastructure.PlayerSketches;
+import com.transfermarket.model.TransferModel;
+import com.transfermarket.util.RosterGenerator;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * Tests for {@link PlayerRegistry}.
+ *
+ * @author Samir Adhikari
+ */
+public class PlayerRegistryTest {
+
+    // More players than one chunk of a sorted copy, so copies take the lock several times.
+    private static final int ROSTER_SIZE = 200000;
+
+    private static PlayerRegistry registry(int size) {
+        PlayerRegistry registry = new PlayerRegistry();
+        new RosterGenerator(RosterGenerator.DEFAULT_SEED).generate(size, registry::add);
+        return registry;
+    }
+
+    /**
+     * The players whose value lies between two inclusive bounds, found by a
+     * scan and in the order the range queries promise: by value, then by ID.
+     */
+    private static List<TransferModel> scan(List<TransferModel> players, ToDoubleFunction<TransferModel> value,
+            double min, double max) {
+        return players.stream()
+                .filter(player -> value.applyAsDouble(player) >= min && value.applyAsDouble(player) <= max)
+                .sorted(Comparator.comparingDouble(value).thenComparingInt(TransferModel::getPlayerId))
+                .collect(Collectors.toList());
+    }
+
+    private static void assertSortedByAge(List<TransferModel> players) {
+        for (int i = 1; i < players.size(); i++) {
+            assertTrue(players.get(i - 1).getAge() <= players.get(i).getAge());
+        }
+    }
+
+    @Test
+    public void sortedCopyReportsProgress() {
+        PlayerRegistry registry = registry(ROSTER_SIZE);
+        List<Integer> reports = new ArrayList<>();
+
+        List<TransferModel> players = registry.playersByAge(reports::add);
+
+        assertEquals(ROSTER_SIZE, players.size());
+        assertSortedByAge(players);
+        assertTrue(reports.size() > 1);
+        assertEquals(100, (int) reports.get(reports.size() - 1));
+    }
+
+    @Test
+    public void sortedCopyReleasesTheLockBetweenChunks() throws Exception {
+        PlayerRegistry registry = registry(ROSTER_SIZE);
+        ExecutorService other = Executors.newSingleThreadExecutor();
+        try {
+            List<Boolean> answers = new ArrayList<>();
+            registry.playersByAge(percent -> {
+                // Would deadlock if the copy still held the registry lock here.
+                Future<Boolean> answer = other.submit(() -> registry.containsId(1));
+                try {
+                    answers.add(answer.get(10, TimeUnit.SECONDS));
+                } catch (Exception e) {
+                    throw new AssertionError(e);
+                }
+            });
+            assertFalse(answers.isEmpty());
+            assertTrue(answers.stream().allMatch(Boolean::booleanValue));
+        } finally {
+            other.shutdownNow();
+        }
+    }
+
+    @Test
+    public void sortedCopyStartsOverWhenTheRegistryChanges() {
+        PlayerRegistry registry = registry(ROSTER_SIZE);
+        TransferModel late = new TransferModel(ROSTER_SIZE + 1, "Late Arrival", "GK", "Nepal", 10, 100, 12, 0);
+        boolean[] added = {false};
+
+        List<TransferModel> players = registry.playersByAge(percent -> {
+            if (!added[0]) {
+                // Runs between chunks, as an edit on another thread would.
+                registry.add(late);
+                added[0] = true;
+            }
+        });
+
+        assertEquals(ROSTER_SIZE + 1, players.size());
+        assertSortedByAge(players);
+        assertEquals(late, players.get(0));
+    }
+
+    @Test
+    public void rangeQueriesIncludeBothEnds() {
+        List<TransferModel> players = new RosterGenerator(RosterGenerator.DEFAULT_SEED).stream(2000)
+                .collect(Collectors.toList());
+        PlayerRegistry registry = new PlayerRegistry();
+        players.forEach(registry::add);
+
+        for (int age = 15; age <= 45; age += 3) {
+            assertEquals(scan(players, TransferModel::getAge, age, age + 4), registry.findByAge(age, age + 4));
+            assertEquals(scan(players, TransferModel::getAge, age, age), registry.findByAge(age, age));
+        }
+        for (int months = 0; months <= 60; months += 6) {
+            assertEquals(scan(players, TransferModel::getContractDuration, months, months + 12),
+                    registry.findByContractDuration(months, months + 12));
+        }
+        // Bounds taken from the roster, so players sit exactly on both ends.
+        double low = players.get(10).getMarketValue();
+        double high = players.get(20).getMarketValue();
+        assertEquals(scan(players, TransferModel::getMarketValue, Math.min(low, high), Math.max(low, high)),
+                registry.findByMarketValue(Math.min(low, high), Math.max(low, high)));
+        assertTrue(registry.findByMarketValue(low, low).contains(players.get(10)));
+    }
+
+    @Test
+    public void rangeQueriesFollowRemovals() {
+        List<TransferModel> players = new RosterGenerator(RosterGenerator.DEFAULT_SEED).stream(500)
+                .collect(Collectors.toList());
+        PlayerRegistry registry = new PlayerRegistry();
+        players.forEach(registry::add);
+
+        List<TransferModel> remaining = new ArrayList<>(players);
+        for (int i = 0; i < players.size(); i += 3) {
+            registry.remove(players.get(i));
+            remaining.remove(players.get(i));
+        }
+
+        assertEquals(scan(remaining, TransferModel::getAge, 20, 30), registry.findByAge(20, 30));
+        assertEquals(scan(remaining, TransferModel::getContractDuration, 12, 36),
+                registry.findByContractDuration(12, 36));
+        assertEquals(scan(remaining, TransferModel::getMarketValue, 0, Double.MAX_VALUE),
+                registry.findByMarketValue(0, Double.MAX_VALUE));
+    }
+
+    @Test
+    public void rangeQueriesAreEmptyOutsideTheRosterOrWhenReversed() {
+        PlayerRegistry registry = registry(500);
+
+        assertTrue(registry.findByAge(200, 300).isEmpty());
+        assertTrue(registry.findByContractDuration(-10, -1).isEmpty());
+        assertTrue(registry.findByMarketValue(-2, -1).isEmpty());
+        assertTrue(registry.findByAge(30, 20).isEmpty());
+        assertTrue(registry.findByContractDuration(36, 12).isEmpty());
+        assertTrue(registry.findByMarketValue(1e9, 1).isEmpty());
+        assertTrue(new PlayerRegistry().findByAge(0, Integer.MAX_VALUE).isEmpty());
+    }
+
+    @Test
+    public void sketchesDescribeTheCurrentRoster() {
+        List<TransferModel> players = new RosterGenerator(RosterGenerator.DEFAULT_SEED).stream(2000)
+                .collect(Collectors.toList());
+        PlayerRegistry registry = new PlayerRegistry();
+        players.forEach(registry::add);
+        PlayerSketches before = registry.getSketches();
+        assertSame(before, registry.getSketches());
+
+        // Remove the most valuable half, which moves the median a long way.
+        List<TransferModel> byValue = new ArrayList<>(players);
+        byValue.sort(Comparator.comparingDouble(TransferModel::getMarketValue));
+        byValue.subList(1000, 2000).forEach(registry::remove);
+        PlayerSketches after = registry.getSketches();
+
+        assertNotSame(before, after);
+        assertEquals(2000, before.size());
+        assertEquals(1000, after.size());
+        double median = (byValue.get(499).getMarketValue() + byValue.get(500).getMarketValue()) / 2;
+        double spread = byValue.get(520).getMarketValue() - byValue.get(480).getMarketValue();
+        assertEquals(median, after.marketValueQuantile(0.5), spread);
+        assertTrue(after.marketValueQuantile(1) <= byValue.get(999).getMarketValue());
+    }
+}
@@ -0,0 +1,89 @@
+package com.transfermarket.controller.datastructure;
+
+import com.transfermarket.model.PlayerField;
+import com.transfermarket.model.TransferModel;
+import com.transfermarket.util.RosterGenerator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import static org.junit.Assert.assertEquals;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Aggregations}.
+ *
+ * @author Samir Adhikari
+ */
+public class AggregationsTest {
+
+    private static final PlayerField[][] GROUPINGS = {
+        {},
+        {PlayerField.POSITION},
+        {PlayerField.NATIONALITY},
+        {PlayerField.POSITION, PlayerField.NATIONALITY}
+    };
+
+    // A pool of its own, so the rows are split among tasks even on a single-core machine.
+    private static ForkJoinPool pool;
+
+    @BeforeClass
+    public static void startPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterClass
+    public static void stopPool() {
+        pool.shutdownNow();
+    }
+
+    private static void assertSameSummary(GroupStatistics.Summary expected, GroupStatistics.Summary actual) {
+        assertEquals(expected.getCount(), actual.getCount());
+        // Partial sums are added in another order, so the totals may differ in the last bits.
+        assertEquals(expected.getSum(), actual.getSum(), Math.abs(expected.getSum()) * 1e-12);
+        assertEquals(expected.getMin(), actual.getMin(), 0);
+        assertEquals(expected.getMax(), actual.getMax(), 0);
+    }
+
+    private static void assertSameGroups(List<GroupStatistics> expected, List<GroupStatistics> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int g = 0; g < expected.size(); g++) {
+            assertEquals(expected.get(g).getPosition(), actual.get(g).getPosition());
+            assertEquals(expected.get(g).getNationality(), actual.get(g).getNationality());
+            assertSameSummary(expected.get(g).getMarketValue(), actual.get(g).getMarketValue());
+            assertSameSummary(expected.get(g).getGoalContribution(), actual.get(g).getGoalContribution());
+        }
+    }
+
+    @Test
+    public void parallelGroupingMatchesTheSerialOne() {
+        // Several chunks, with an odd tail, plus a few players without a position or nationality.
+        int size = 5 * Aggregations.PARALLEL_CHUNK + 12345;
+        List<TransferModel> players = new RosterGenerator(RosterGenerator.DEFAULT_SEED).stream(size)
+                .collect(Collectors.toList());
+        for (int i = 0; i < 1000; i += 7) {
+            TransferModel player = players.get(i * 300);
+            players.set(i * 300, new TransferModel(player.getPlayerId(), player.getPlayerName(),
+                    i % 2 == 0 ? null : player.getPosition(), i % 3 == 0 ? null : player.getNationality(),
+                    player.getAge(), player.getMarketValue(), player.getContractDuration(),
+                    player.getGoalContribution()));
+        }
+        ColumnarPlayerStore store = ColumnarPlayerStore.of(players);
+
+        for (PlayerField[] fields : GROUPINGS) {
+            List<GroupStatistics> serial = Aggregations.groupBy(store, fields);
+            long total = serial.stream().mapToLong(GroupStatistics::getCount).sum();
+
+            assertEquals(size, total);
+            assertSameGroups(serial, Aggregations.groupBy(players, fields));
+            assertSameGroups(serial, Aggregations.parallelGroupBy(store, pool, fields));
+            assertSameGroups(serial, Aggregations.parallelGroupBy(store, fields));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void onlyCodedColumnsCanBeGroupedBy() {
+        Aggregations.groupBy(ColumnarPlayerStore.of(List.of()), PlayerField.AGE);
+    }
+}
@@ -0,0 +1,411 @@
+package com.transfermarket.controller.datastructure;
+
+import com.transfermarket.model.PlayerField;
+import com.transfermarket.model.TransferModel;
+import com.transfermarket.util.NameCollator;
+import com.transfermarket.util.RosterGenerator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Algorithms}.
+ *
+ * @author Samir Adhikari
+ */
+public class AlgorithmsTest {
+
+    // Odd and even sizes around the insertion sort cutoff and a few merge levels above it.
+    private static final int[] MERGE_SIZES = {0, 1, 2, 3, 15, 16, 17, 31, 33, 101, 1001};
+
+    // The orders the window sorts and ranks players by.
+    private static final List<Comparator<TransferModel>> UI_COMPARATORS = List.of(
+            Algorithms.BY_AGE, Algorithms.BY_NAME, Algorithms.BY_GOAL_CONTRIBUTION,
+            Algorithms.BY_MARKET_VALUE, Algorithms.BY_PLAYER_ID);
+
+    // Below and above the size at which the parallel merge sort stops splitting.
+    private static final int[] PARALLEL_SIZES = {1000, 100000};
+
+    /**
+     * A sort key that remembers the position it started at, so a stable sort
+     * can be told apart from an unstable one.
+     */
+    private static final class Tagged {
+
+        private static final Comparator<Tagged> BY_KEY = Comparator.comparingInt(tagged -> tagged.key);
+
+        private final int key;
+        private final int index;
+
+        Tagged(int key, int index) {
+            this.key = key;
+            this.index = index;
+        }
+
+        @Override
+        public String toString() {
+            return key + "@" + index;
+        }
+    }
+
+    private static Tagged[] tagged(int size, int[] keys, Random random) {
+        Tagged[] items = new Tagged[size];
+        for (int i = 0; i < size; i++) {
+            items[i] = new Tagged(keys[random.nextInt(keys.length)], i);
+        }
+        return items;
+    }
+
+    private static Tagged[] tagged(int size, int distinctKeys, Random random) {
+        Tagged[] items = new Tagged[size];
+        for (int i = 0; i < size; i++) {
+            items[i] = new Tagged(random.nextInt(distinctKeys), i);
+        }
+        return items;
+    }
+
+    /**
+     * Asserts that an array holds the same objects, in the same order, as the
+     * stable sort of the JDK.
+     */
+    private static <T> void assertSortedLikeTheJdk(T[] original, T[] sorted, Comparator<? super T> comparator) {
+        List<T> expected = new ArrayList<>(Arrays.asList(original));
+        Collections.sort(expected, comparator);
+        assertEquals(expected.size(), sorted.length);
+        for (int i = 0; i < sorted.length; i++) {
+            assertSame("Element " + i, expected.get(i), sorted[i]);
+        }
+    }
+
+    // Positions and nationalities from the vocabulary, with one of each missing.
+    private static List<TransferModel> roster() {
+        return Arrays.asList(
+                new TransferModel(1, "Zed", "GK", "Nepal", 30, 500, 12, 0),
+                new TransferModel(2, "Ana", "ST", "Spain", 22, 900, 24, 40),
+                new TransferModel(3, "Bo", null, "Nepal", 30, 100, 36, 5),
+                new TransferModel(4, "Cy", "ST", null, 25, 900, 48, 40));
+    }
+
+    private static Comparator<TransferModel> byText(Function<TransferModel, String> value) {
+        // The collation order of the window, with a missing value sorting like an empty one.
+        return Comparator.comparing(player -> NameCollator.keyOf(value.apply(player)));
+    }
+
+    @Test
+    public void orderMatchesSortByKeys() {
+        SortKey[][] keyLists = {
+            {SortKey.ascending(PlayerField.AGE)},
+            {SortKey.ascending(PlayerField.PLAYER_NAME)},
+            {SortKey.descending(PlayerField.MARKET_VALUE), SortKey.ascending(PlayerField.PLAYER_ID)},
+            {SortKey.ascending(PlayerField.POSITION), SortKey.descending(PlayerField.GOAL_CONTRIBUTION)},
+            {SortKey.ascending(PlayerField.NATIONALITY), SortKey.ascending(PlayerField.AGE)}
+        };
+        // The same orders written as plain comparators, for the stable List.sort.
+        List<Comparator<TransferModel>> references = List.of(
+                Comparator.comparingInt(TransferModel::getAge),
+                byText(TransferModel::getPlayerName),
+                Comparator.comparingDouble(TransferModel::getMarketValue).reversed()
+                        .thenComparingInt(TransferModel::getPlayerId),
+                byText(TransferModel::getPosition)
+                        .thenComparing(Comparator.comparingInt(TransferModel::getGoalContribution).reversed()),
+                byText(TransferModel::getNationality).thenComparingInt(TransferModel::getAge));
+        List<List<TransferModel>> rosters = List.of(roster(),
+                new RosterGenerator(RosterGenerator.DEFAULT_SEED).stream(500).collect(Collectors.toList()));
+
+        for (List<TransferModel> players : rosters) {
+            PlayerStore store = ColumnarPlayerStore.of(players);
+            for (int k = 0; k < keyLists.length; k++) {
+                SortKey[] keys = keyLists[k];
+                List<TransferModel> expected = new ArrayList<>(players);
+                expected.sort(references.get(k));
+
+                List<TransferModel> sorted = Algorithms.sortByKeys(new ArrayList<>(players), keys);
+                int[] order = Algorithms.order(store, keys);
+
+                assertEquals(expected.size(), sorted.size());
+                assertEquals(expected.size(), order.length);
+                for (int i = 0; i < order.length; i++) {
+                    assertSame(Arrays.toString(keys), expected.get(i), sorted.get(i));
+                    assertEquals(Arrays.toString(keys), expected.get(i).getPlayerId(), store.getPlayerId(order[i]));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void orderLeavesTheStoreUntouched() {
+        PlayerStore store = ColumnarPlayerStore.of(roster());
+
+        assertArrayEquals(new int[]{1, 2, 3, 0}, Algorithms.order(store, SortKey.ascending(PlayerField.PLAYER_NAME)));
+        assertArrayEquals(new int[]{0, 1, 2, 3}, Algorithms.order(store));
+        assertEquals("Zed", store.getPlayerName(0));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void storeListViewCannotBeSortedInPlace() {
+        PlayerStore store = ColumnarPlayerStore.of(roster());
+
+        Algorithms.sortByAge(store.asList());
+    }
+
+    @Test
+    public void parallelMergeSortMatchesCollectionsSort() {
+        Random random = new Random(11);
+        for (int size : PARALLEL_SIZES) {
+            Tagged[] original = tagged(size, size, random);
+            Tagged[] items = original.clone();
+
+            Algorithms.parallelMergeSort(items, Tagged.BY_KEY);
+
+            assertSortedLikeTheJdk(original, items, Tagged.BY_KEY);
+        }
+    }
+
+    @Test
+    public void parallelMergeSortKeepsTiesInOrderAcrossSplits() {
+        Random random = new Random(12);
+        for (int size : PARALLEL_SIZES) {
+            // Few distinct keys, so every run the sort splits off shares keys with its neighbours.
+            Tagged[] original = tagged(size, 7, random);
+            Tagged[] items = original.clone();
+
+            Algorithms.parallelMergeSort(items, Tagged.BY_KEY);
+
+            assertSortedLikeTheJdk(original, items, Tagged.BY_KEY);
+        }
+    }
+
+    @Test
+    public void parallelMergeSortKeepsEqualKeysInOriginalOrder() {
+        for (int size : PARALLEL_SIZES) {
+            Tagged[] items = new Tagged[size];
+            for (int i = 0; i < size; i++) {
+                items[i] = new Tagged(0, i);
+            }
+
+            Algorithms.parallelMergeSort(items, Tagged.BY_KEY);
+
+            for (int i = 0; i < size; i++) {
+                assertEquals(i, items[i].index);
+            }
+        }
+    }
+
+    @Test
+    public void mergeSortMatchesListSortForEveryUiOrder() {
+        for (int size : MERGE_SIZES) {
+            List<TransferModel> players = new RosterGenerator(RosterGenerator.DEFAULT_SEED + size)
+                    .stream(size).collect(Collectors.toList());
+            for (int c = 0; c < UI_COMPARATORS.size(); c++) {
+                Comparator<TransferModel> comparator = UI_COMPARATORS.get(c);
+                List<TransferModel> sorted = new ArrayList<>(players);
+                sorted.sort(comparator);
+                List<TransferModel> reversed = new ArrayList<>(sorted);
+                Collections.reverse(reversed);
+
+                // Random, already sorted and reverse sorted input; the roster has many equal keys.
+                for (List<TransferModel> input : List.of(players, sorted, reversed)) {
+                    TransferModel[] items = input.toArray(new TransferModel[0]);
+                    List<TransferModel> expected = new ArrayList<>(input);
+                    expected.sort(comparator);
+
+                    Algorithms.mergeSort(items, comparator);
+
+                    assertEquals(expected.size(), items.length);
+                    for (int i = 0; i < items.length; i++) {
+                        assertSame("Comparator " + c + ", size " + size, expected.get(i), items[i]);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void mergeSortKeepsTiesInOriginalOrder() {
+        Random random = new Random(13);
+        for (int size : MERGE_SIZES) {
+            Tagged[] original = tagged(size, 3, random);
+            Tagged[] items = original.clone();
+
+            Algorithms.mergeSort(items, Tagged.BY_KEY);
+
+            assertSortedLikeTheJdk(original, items, Tagged.BY_KEY);
+        }
+    }
+
+    @Test
+    public void countingSortHandlesNegativeKeysStably() {
+        Random random = new Random(14);
+        for (int size : MERGE_SIZES) {
+            // A range of 201 keys is narrow enough for the counting sort at every size.
+            int[] keys = new int[201];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = i - 100;
+            }
+            Tagged[] original = tagged(size, keys, random);
+            Tagged[] items = original.clone();
+
+            Algorithms.sortByIntKey(items, tagged -> tagged.key);
+
+            assertSortedLikeTheJdk(original, items, Tagged.BY_KEY);
+        }
+    }
+
+    @Test
+    public void radixSortHandlesKeyRangesWiderThanAnInt() {
+        Random random = new Random(15);
+        // Both ends of the int range, so max - min only fits as an unsigned difference.
+        int[] extremes = {Integer.MIN_VALUE, Integer.MIN_VALUE + 1, -65536, -1, 0, 1, 255, 256, 65536,
+            Integer.MAX_VALUE - 1, Integer.MAX_VALUE};
+        for (int size : MERGE_SIZES) {
+            int[] keys = new int[extremes.length + 20];
+            System.arraycopy(extremes, 0, keys, 0, extremes.length);
+            for (int i = extremes.length; i < keys.length; i++) {
+                keys[i] = random.nextInt();
+            }
+            Tagged[] original = tagged(size, keys, random);
+            Tagged[] items = original.clone();
+
+            Algorithms.sortByIntKey(items, tagged -> tagged.key);
+
+            assertSortedLikeTheJdk(original, items, Tagged.BY_KEY);
+        }
+    }
+
+    @Test
+    public void radixSortHandlesNegativeKeysStably() {
+        Random random = new Random(16);
+        for (int size : MERGE_SIZES) {
+            // Too wide for the counting sort, with every key below zero and many ties.
+            int[] keys = new int[50];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = -1 - random.nextInt(10000000);
+            }
+            Tagged[] original = tagged(size, keys, random);
+            List<Tagged> items = new ArrayList<>(Arrays.asList(original));
+
+            Algorithms.sortByIntKey(items, tagged -> tagged.key);
+
+            assertSortedLikeTheJdk(original, items.toArray(new Tagged[0]), Tagged.BY_KEY);
+        }
+    }
+
+    /**
+     * Asserts that a selection agrees with sorting every element in descending
+     * order and keeping the first k: the same number of elements, comparing
+     * equal place by place, each taken once from the input. Ties at the
+     * cutoff may be broken either way.
+     */
+    private static <T> void assertAgreesWithSortThenTruncate(List<T> items, int k, Comparator<? super T> comparator,
+            List<T> selected) {
+        List<T> expected = new ArrayList<>(items);
+        expected.sort(comparator.reversed());
+        expected = expected.subList(0, Math.min(k, expected.size()));
+
+        assertEquals(expected.size(), selected.size());
+        for (int i = 0; i < selected.size(); i++) {
+            assertEquals("Element " + i, 0, comparator.compare(expected.get(i), selected.get(i)));
+        }
+        IdentityHashMap<T, Integer> remaining = new IdentityHashMap<>();
+        items.forEach(item -> remaining.merge(item, 1, Integer::sum));
+        for (T item : selected) {
+            assertTrue("Not an input element or taken twice: " + item, remaining.merge(item, -1, Integer::sum) >= 0);
+        }
+    }
+
+    @Test
+    public void topKAndBottomKOfZeroAreEmpty() {
+        List<Tagged> items = Arrays.asList(tagged(100, 10, new Random(17)));
+
+        assertTrue(Algorithms.topK(items, 0, Tagged.BY_KEY).isEmpty());
+        assertTrue(Algorithms.bottomK(items, 0, Tagged.BY_KEY).isEmpty());
+        assertTrue(Algorithms.topK(new ArrayList<Tagged>(), 0, Tagged.BY_KEY).isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void topKRejectsANegativeK() {
+        Algorithms.topK(Arrays.asList(tagged(10, 10, new Random(18))), -1, Tagged.BY_KEY);
+    }
+
+    @Test
+    public void topKAndBottomKOfAtLeastTheSizeSortEverything() {
+        Random random = new Random(19);
+        // The largest size is past the heap array first allocated, 1,024 elements, which then has to grow.
+        for (int size : new int[]{0, 1, 2, 17, 1001, 3000}) {
+            List<Tagged> items = Arrays.asList(tagged(size, Math.max(1, size / 4), random));
+            for (int k : new int[]{size, size + 1, 2 * size + 5, Integer.MAX_VALUE}) {
+                List<Tagged> top = Algorithms.topK(items, k, Tagged.BY_KEY);
+                List<Tagged> bottom = Algorithms.bottomK(items, k, Tagged.BY_KEY);
+
+                assertAgreesWithSortThenTruncate(items, k, Tagged.BY_KEY, top);
+                assertAgreesWithSortThenTruncate(items, k, Tagged.BY_KEY.reversed(), bottom);
+            }
+        }
+    }
+
+    @Test
+    public void topKAndBottomKKeepTiesAtTheCutoff() {
+        Random random = new Random(20);
+        for (int round = 0; round < 50; round++) {
+            // Few distinct keys, so almost every cutoff falls inside a run of ties.
+            List<Tagged> items = Arrays.asList(tagged(200 + random.nextInt(300), 1 + random.nextInt(8), random));
+            int k = 1 + random.nextInt(items.size());
+
+            assertAgreesWithSortThenTruncate(items, k, Tagged.BY_KEY, Algorithms.topK(items, k, Tagged.BY_KEY));
+            assertAgreesWithSortThenTruncate(items, k, Tagged.BY_KEY.reversed(),
+                    Algorithms.bottomK(items, k, Tagged.BY_KEY));
+        }
+
+        // Every element ties: any k of them, each once.
+        List<Tagged> same = Arrays.asList(tagged(50, 1, random));
+        assertAgreesWithSortThenTruncate(same, 20, Tagged.BY_KEY, Algorithms.topK(same, 20, Tagged.BY_KEY));
+    }
+
+    @Test
+    public void topKMatchesSortThenTruncateWithoutTies() {
+        Random random = new Random(21);
+        for (int size : MERGE_SIZES) {
+            List<Tagged> items = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                items.add(new Tagged(i, i));
+            }
+            Collections.shuffle(items, random);
+            List<Tagged> descending = new ArrayList<>(items);
+            descending.sort(Tagged.BY_KEY.reversed());
+
+            for (int k : new int[]{1, 2, size / 3, size - 1}) {
+                if (k < 0) {
+                    continue;
+                }
+                // Distinct keys leave a single right answer, element for element.
+                assertEquals(descending.subList(0, Math.min(k, size)), Algorithms.topK(items, k, Tagged.BY_KEY));
+                List<Tagged> ascending = new ArrayList<>(descending);
+                Collections.reverse(ascending);
+                assertEquals(ascending.subList(0, Math.min(k, size)), Algorithms.bottomK(items, k, Tagged.BY_KEY));
+            }
+        }
+    }
+
+    @Test
+    public void topPlayersMatchSortThenTruncate() {
+        List<TransferModel> players = new RosterGenerator(RosterGenerator.DEFAULT_SEED).stream(5000)
+                .collect(Collectors.toList());
+        for (int k : new int[]{0, 1, 10, 100, 5000, 6000}) {
+            assertAgreesWithSortThenTruncate(players, k, Algorithms.BY_MARKET_VALUE,
+                    Algorithms.topByMarketValue(players, k));
+            assertAgreesWithSortThenTruncate(players, k, Algorithms.BY_GOAL_CONTRIBUTION,
+                    Algorithms.topByGoalContribution(players, k));
+        }
+    }
+}
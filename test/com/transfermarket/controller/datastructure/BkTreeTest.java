@@ -0,0 +1,99 @@
+package com.transfermarket.controller.datastructure;
+
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * Tests for {@link BkTree}.
+ *
+ * @author Samir Adhikari
+ */
+public class BkTreeTest {
+
+    @Test
+    public void searchFindsWordsWithinDistance() {
+        BkTree tree = new BkTree();
+        tree.add("messi");
+        tree.add("ronaldo");
+        tree.add("neymar");
+
+        List<BkTree.Match> matches = tree.search("mesi", 1);
+
+        assertEquals(1, matches.size());
+        assertEquals("messi", matches.get(0).getWord());
+        assertEquals(1, matches.get(0).getDistance());
+    }
+
+    @Test
+    public void removedWordsAreNotFound() {
+        BkTree tree = new BkTree();
+        tree.add("messi");
+        tree.add("messi");
+
+        assertTrue(tree.remove("messi"));
+        assertEquals(1, tree.search("messi", 0).size());
+        assertTrue(tree.remove("messi"));
+        assertTrue(tree.search("messi", 0).isEmpty());
+        assertFalse(tree.remove("messi"));
+        assertEquals(0, tree.size());
+    }
+
+    @Test
+    public void repeatedChurnKeepsTheTreeBounded() {
+        BkTree tree = new BkTree();
+        int rosterSize = 200;
+        List<String> roster = new ArrayList<>();
+        for (int i = 0; i < rosterSize; i++) {
+            roster.add(name(i));
+            tree.add(name(i));
+        }
+
+        // Replace every player with a newly named one, many times over.
+        int next = rosterSize;
+        for (int round = 0; round < 20; round++) {
+            for (int i = 0; i < rosterSize; i++) {
+                assertTrue(tree.remove(roster.get(i)));
+                roster.set(i, name(next));
+                tree.add(name(next++));
+            }
+            assertEquals(rosterSize, tree.size());
+            assertTrue("Nodes: " + tree.nodeCount(), tree.nodeCount() <= 2 * rosterSize);
+        }
+
+        // Every current word is still found, and no removed one is.
+        for (String word : roster) {
+            assertEquals(1, tree.search(word, 0).size());
+        }
+        assertTrue(tree.search(name(0), 0).isEmpty());
+    }
+
+    @Test
+    public void removingEveryWordEmptiesTheTree() {
+        BkTree tree = new BkTree();
+        for (int i = 0; i < 50; i++) {
+            tree.add(name(i));
+        }
+        for (int i = 0; i < 50; i++) {
+            assertTrue(tree.remove(name(i)));
+        }
+        assertEquals(0, tree.size());
+        assertEquals(0, tree.nodeCount());
+        assertTrue(tree.search(name(1), 3).isEmpty());
+    }
+
+    /**
+     * Builds a distinct letters-only word for a number.
+     */
+    private static String name(int number) {
+        StringBuilder word = new StringBuilder("p");
+        do {
+            word.append((char) ('a' + number % 26));
+            number /= 26;
+        } while (number > 0);
+        return word.toString();
+    }
+}
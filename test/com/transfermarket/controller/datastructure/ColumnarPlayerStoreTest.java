@@ -0,0 +1,61 @@
+package com.transfermarket.controller.datastructure;
+
+import com.transfermarket.model.TransferModel;
+import com.transfermarket.model.Vocabulary;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ColumnarPlayerStore}.
+ *
+ * @author Samir Adhikari
+ */
+public class ColumnarPlayerStoreTest {
+
+    @Test
+    public void roundTripsAPlayer() {
+        ColumnarPlayerStore store = new ColumnarPlayerStore();
+        int row = store.add(new TransferModel(7, "Leo Messi", "RWF", "Argentina", 36, 35000, 24, 1200));
+
+        TransferModel player = store.get(row);
+
+        assertEquals(7, player.getPlayerId());
+        assertEquals("Leo Messi", player.getPlayerName());
+        assertEquals("RWF", player.getPosition());
+        assertEquals("Argentina", player.getNationality());
+        assertEquals(36, player.getAge());
+        assertEquals(35000, player.getMarketValue(), 0);
+        assertEquals(24, player.getContractDuration());
+        assertEquals(1200, player.getGoalContribution());
+    }
+
+    @Test
+    public void roundTripsMissingPositionAndNationality() {
+        assertMissingFieldsRoundTrip(new ColumnarPlayerStore());
+    }
+
+    @Test
+    public void roundTripsMissingPositionAndNationalityWithOwnDictionaries() {
+        assertMissingFieldsRoundTrip(new ColumnarPlayerStore(new StringDictionary(), new StringDictionary(), 4));
+    }
+
+    private static void assertMissingFieldsRoundTrip(ColumnarPlayerStore store) {
+        int row = store.add(new TransferModel(1, "Nobody", null, null, 20, 100, 12, 0));
+
+        assertEquals(Vocabulary.NO_CODE, store.getPositionCode(row));
+        assertEquals(Vocabulary.NO_CODE, store.getNationalityCode(row));
+        assertNull(store.getPosition(row));
+        assertNull(store.getNationality(row));
+        TransferModel player = store.get(row);
+        assertNull(player.getPosition());
+        assertNull(player.getNationality());
+        assertEquals("Nobody", player.getPlayerName());
+
+        ColumnarPlayerStore.Cursor cursor = store.cursor();
+        assertTrue(cursor.next());
+        assertNull(cursor.getPosition());
+        assertNull(cursor.getNationality());
+    }
+}
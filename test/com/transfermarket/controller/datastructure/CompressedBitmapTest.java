@@ -0,0 +1,138 @@
+package com.transfermarket.controller.datastructure;
+
+import java.util.BitSet;
+import java.util.Random;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ * Tests for {@link CompressedBitmap}, checked against a {@link BitSet}.
+ *
+ * @author Samir Adhikari
+ */
+public class CompressedBitmapTest {
+
+    private static final int CHUNK = 1 << 16;
+
+    // Values per chunk that keep it sparse, put it right at the array limit, and make it dense.
+    private static final int[] CHUNK_FILLS = {0, 1, 100, 4096, 4097, 20000, CHUNK};
+
+    /**
+     * Fills a bitmap and a BitSet with the same values: for every chunk, a
+     * number of distinct values taken from the fills above.
+     */
+    private static CompressedBitmap fill(BitSet reference, int chunks, Random random) {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            int count = CHUNK_FILLS[random.nextInt(CHUNK_FILLS.length)];
+            BitSet values = new BitSet(CHUNK);
+            while (values.cardinality() < count) {
+                values.set(random.nextInt(CHUNK));
+            }
+            int base = chunk * CHUNK;
+            values.stream().forEach(low -> {
+                bitmap.add(base + low);
+                reference.set(base + low);
+            });
+        }
+        return bitmap;
+    }
+
+    private static void assertSameValues(BitSet expected, CompressedBitmap actual) {
+        assertEquals(expected.cardinality(), actual.cardinality());
+        assertEquals(expected.isEmpty(), actual.isEmpty());
+        assertArrayEquals(expected.stream().toArray(), actual.toArray());
+    }
+
+    @Test
+    public void andAndOrMatchBitSetAcrossContainerKinds() {
+        Random random = new Random(21);
+        for (int round = 0; round < 30; round++) {
+            BitSet a = new BitSet();
+            BitSet b = new BitSet();
+            CompressedBitmap left = fill(a, 1 + random.nextInt(4), random);
+            CompressedBitmap right = fill(b, 1 + random.nextInt(4), random);
+
+            BitSet and = (BitSet) a.clone();
+            and.and(b);
+            BitSet or = (BitSet) a.clone();
+            or.or(b);
+
+            assertSameValues(and, CompressedBitmap.and(left, right));
+            assertSameValues(and, CompressedBitmap.and(right, left));
+            assertSameValues(or, CompressedBitmap.or(left, right));
+            assertSameValues(or, CompressedBitmap.or(right, left));
+            // The operands are left as they were.
+            assertSameValues(a, left);
+            assertSameValues(b, right);
+        }
+    }
+
+    @Test
+    public void chunksConvertAtTheArrayLimitAndBack() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        BitSet reference = new BitSet();
+        Random random = new Random(22);
+        int[] order = new int[CHUNK];
+        for (int i = 0; i < CHUNK; i++) {
+            order[i] = i;
+        }
+        for (int i = CHUNK - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = order[i];
+            order[i] = order[j];
+            order[j] = swap;
+        }
+
+        // Grow one chunk past the limit of 4,096 values, checking around the conversion.
+        for (int i = 0; i < 4200; i++) {
+            bitmap.add(CHUNK + order[i]);
+            reference.set(CHUNK + order[i]);
+            if (i >= 4090) {
+                assertSameValues(reference, bitmap);
+                assertEquals(reference.get(CHUNK + order[i + 1]), bitmap.contains(CHUNK + order[i + 1]));
+            }
+        }
+        // Adding a value that is already present changes nothing.
+        bitmap.add(CHUNK + order[0]);
+        assertSameValues(reference, bitmap);
+
+        // Shrink it back below the limit, which it crosses after about 100 removals, and then to nothing.
+        for (int i = 0; i < 4200; i++) {
+            bitmap.remove(CHUNK + order[i]);
+            reference.clear(CHUNK + order[i]);
+            if (i <= 110 || i >= 4190) {
+                assertSameValues(reference, bitmap);
+            }
+        }
+        assertSameValues(reference, bitmap);
+        bitmap.remove(CHUNK + order[0]);
+        assertSameValues(reference, bitmap);
+    }
+
+    @Test
+    public void randomEditsMatchBitSet() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        BitSet reference = new BitSet();
+        Random random = new Random(23);
+
+        // Two chunks, so each one crosses the array limit in both directions.
+        int bound = 2 * CHUNK;
+        for (int step = 0; step < 60000; step++) {
+            int value = random.nextInt(bound);
+            if (step % 20000 < 12000) {
+                bitmap.add(value);
+                reference.set(value);
+            } else {
+                bitmap.remove(value);
+                reference.clear(value);
+            }
+            assertEquals(reference.get(value), bitmap.contains(value));
+            if (step % 1000 == 0) {
+                assertSameValues(reference, bitmap);
+            }
+        }
+        assertSameValues(reference, bitmap);
+    }
+}
@@ -0,0 +1,70 @@
+package com.transfermarket.controller.datastructure;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * Tests for {@link HyperLogLog}.
+ *
+ * @author Samir Adhikari
+ */
+public class HyperLogLogTest {
+
+    // Three standard errors (1.04 / sqrt(2^14)) at the default precision.
+    private static final double TOLERANCE = 3 * 1.04 / Math.sqrt(1 << 14);
+
+    private static void assertClose(long expected, long estimate) {
+        double error = Math.abs(estimate - expected) / (double) expected;
+        assertTrue("Expected about " + expected + ", estimated " + estimate, error <= TOLERANCE);
+    }
+
+    @Test
+    public void estimatesStayWithinTheRelativeError() {
+        for (int distinct : new int[]{10, 1000, 20000, 100000, 1000000}) {
+            HyperLogLog sketch = new HyperLogLog();
+            for (int i = 0; i < distinct; i++) {
+                sketch.add("Player " + i);
+            }
+
+            assertClose(distinct, sketch.estimate());
+        }
+    }
+
+    @Test
+    public void repeatedValuesAreCountedOnce() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int round = 0; round < 5; round++) {
+            for (long i = 0; i < 50000; i++) {
+                sketch.add(i * 31);
+            }
+        }
+        sketch.add((String) null);
+
+        assertClose(50000, sketch.estimate());
+    }
+
+    @Test
+    public void mergeEstimatesTheUnion() {
+        HyperLogLog left = new HyperLogLog();
+        HyperLogLog right = new HyperLogLog();
+        // Overlapping halves: 0 .. 59,999 and 40,000 .. 99,999.
+        for (int i = 0; i < 60000; i++) {
+            left.add(i * 0.5);
+        }
+        for (int i = 40000; i < 100000; i++) {
+            right.add(i * 0.5);
+        }
+        long rightAlone = right.estimate();
+
+        left.merge(right);
+
+        assertClose(100000, left.estimate());
+        assertEquals(rightAlone, right.estimate());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void onlySketchesOfTheSamePrecisionMerge() {
+        new HyperLogLog(12).merge(new HyperLogLog(14));
+    }
+}
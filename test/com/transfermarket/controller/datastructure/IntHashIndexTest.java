@@ -0,0 +1,145 @@
+package com.transfermarket.controller.datastructure;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * Tests for {@link IntHashIndex}.
+ *
+ * @author Samir Adhikari
+ */
+public class IntHashIndexTest {
+
+    // Sixteen buckets, which hold up to ten keys before the table doubles.
+    private static final int SMALL_SIZE = 8;
+    private static final int SMALL_CAPACITY = 16;
+
+    /**
+     * Finds keys whose home bucket is the given one, in ascending order.
+     */
+    private static int[] keysInBucket(IntHashIndex index, int bucket, int count) {
+        int[] keys = new int[count];
+        int found = 0;
+        for (int key = 1; found < count; key++) {
+            if (index.bucketOf(key) == bucket) {
+                keys[found++] = key;
+            }
+        }
+        return keys;
+    }
+
+    private static void assertMatches(Map<Integer, Integer> expected, IntHashIndex index) {
+        assertEquals(expected.size(), index.size());
+        for (Map.Entry<Integer, Integer> entry : expected.entrySet()) {
+            assertEquals("Key " + entry.getKey(), (int) entry.getValue(), index.get(entry.getKey()));
+        }
+    }
+
+    @Test
+    public void collidingKeysSurviveRemovals() {
+        IntHashIndex index = new IntHashIndex(SMALL_SIZE);
+        int[] keys = keysInBucket(index, 3, 6);
+        Map<Integer, Integer> expected = new HashMap<>();
+        for (int i = 0; i < keys.length; i++) {
+            index.put(keys[i], i);
+            expected.put(keys[i], i);
+        }
+
+        // Remove from the middle, the front and the back of the probe run, re-checking every key each time.
+        for (int removed : new int[]{keys[2], keys[0], keys[5]}) {
+            assertEquals((int) expected.remove(removed), index.remove(removed));
+            assertEquals(IntHashIndex.NO_VALUE, index.get(removed));
+            assertEquals(IntHashIndex.NO_VALUE, index.remove(removed));
+            assertMatches(expected, index);
+        }
+
+        // A removed key can come back, behind the keys that stayed.
+        assertEquals(IntHashIndex.NO_VALUE, index.put(keys[2], 20));
+        expected.put(keys[2], 20);
+        assertEquals(20, index.put(keys[2], 21));
+        expected.put(keys[2], 21);
+        assertMatches(expected, index);
+    }
+
+    @Test
+    public void removalShiftsEntriesBackAcrossTheEndOfTheTable() {
+        IntHashIndex index = new IntHashIndex(SMALL_SIZE);
+        int last = SMALL_CAPACITY - 1;
+        int[] wrapping = keysInBucket(index, last, 3); // In buckets 15, 0 and 1.
+        int[] first = keysInBucket(index, 0, 2); // Pushed to buckets 2 and 3.
+        Map<Integer, Integer> expected = new HashMap<>();
+        int value = 0;
+        for (int key : wrapping) {
+            index.put(key, value);
+            expected.put(key, value++);
+        }
+        for (int key : first) {
+            index.put(key, value);
+            expected.put(key, value++);
+        }
+
+        // Emptying bucket 15 must pull the wrapped entries back over the end of the table.
+        assertEquals((int) expected.remove(wrapping[0]), index.remove(wrapping[0]));
+        assertMatches(expected, index);
+
+        // Now buckets 15 to 2 are full; a key at home in bucket 3 follows them.
+        int atHome = keysInBucket(index, 3, 1)[0];
+        index.put(atHome, value);
+        expected.put(atHome, value);
+        // Emptying bucket 1 moves the entry of bucket 2 back, but not the one at home in bucket 3.
+        assertEquals((int) expected.remove(first[0]), index.remove(first[0]));
+        assertMatches(expected, index);
+        assertEquals((int) expected.remove(wrapping[2]), index.remove(wrapping[2]));
+        assertMatches(expected, index);
+        assertFalse(index.containsKey(wrapping[0]));
+        assertTrue(index.containsKey(first[1]));
+    }
+
+    @Test
+    public void growsAndStaysConsistentUnderRandomEdits() {
+        IntHashIndex index = new IntHashIndex();
+        Map<Integer, Integer> expected = new HashMap<>();
+        List<Integer> present = new ArrayList<>();
+        Random random = new Random(51);
+
+        for (int step = 0; step < 200000; step++) {
+            // Grow to many times the initial capacity, then shrink and grow again.
+            boolean add = present.isEmpty() || random.nextInt(100) < (step < 100000 ? 70 : 40);
+            if (add) {
+                int key = random.nextInt(1 << 20) - (1 << 19);
+                int valueToPut = random.nextInt(Integer.MAX_VALUE);
+                Integer previous = expected.put(key, valueToPut);
+                assertEquals(previous == null ? IntHashIndex.NO_VALUE : previous, index.put(key, valueToPut));
+                if (previous == null) {
+                    present.add(key);
+                }
+            } else {
+                int key = present.remove(random.nextInt(present.size()));
+                assertEquals((int) expected.remove(key), index.remove(key));
+            }
+            if (step % 20000 == 0) {
+                assertMatches(expected, index);
+            }
+        }
+        assertMatches(expected, index);
+        for (int key = -(1 << 19); key < (1 << 19); key += 997) {
+            assertEquals(expected.containsKey(key), index.containsKey(key));
+        }
+
+        index.clear();
+        assertEquals(0, index.size());
+        assertEquals(IntHashIndex.NO_VALUE, index.get(present.get(0)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeValuesAreRejected() {
+        new IntHashIndex().put(1, IntHashIndex.NO_VALUE);
+    }
+}
@@ -0,0 +1,77 @@
+package com.transfermarket.controller.datastructure;
+
+import com.transfermarket.model.TransferModel;
+import java.io.IOException;
+import java.nio.file.Path;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for {@link MappedPlayerStore}.
+ *
+ * @author Samir Adhikari
+ */
+public class MappedPlayerStoreTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void roundTripsPlayersThroughTheFile() throws IOException {
+        Path file = folder.newFile("players.tmps").toPath();
+        try (MappedPlayerStore store = MappedPlayerStore.open(file)) {
+            store.add(new TransferModel(7, "Leo Messi", "RWF", "Argentina", 36, 35000, 24, 1200));
+        }
+
+        try (MappedPlayerStore store = MappedPlayerStore.open(file)) {
+            assertEquals(1, store.size());
+            TransferModel player = store.get(0);
+            assertEquals(7, player.getPlayerId());
+            assertEquals("Leo Messi", player.getPlayerName());
+            assertEquals("RWF", player.getPosition());
+            assertEquals("Argentina", player.getNationality());
+            assertEquals(35000, player.getMarketValue(), 0);
+        }
+    }
+
+    @Test
+    public void roundTripsMissingPositionAndNationality() throws IOException {
+        Path file = folder.newFile("players.tmps").toPath();
+        try (MappedPlayerStore store = MappedPlayerStore.open(file)) {
+            store.add(new TransferModel(1, "Nobody", null, null, 20, 100, 12, 0));
+        }
+
+        try (MappedPlayerStore store = MappedPlayerStore.open(file)) {
+            assertNull(store.getPosition(0));
+            assertNull(store.getNationality(0));
+            assertEquals("Nobody", store.get(0).getPlayerName());
+        }
+    }
+
+    @Test
+    public void rejectedPlayersLeaveTheStoreUnchanged() throws IOException {
+        Path file = folder.newFile("players.tmps").toPath();
+        try (MappedPlayerStore store = MappedPlayerStore.open(file)) {
+            store.add(new TransferModel(1, "First", "GK", "Nepal", 20, 100, 12, 0));
+            String tooLong = "x".repeat(100);
+            try {
+                store.add(new TransferModel(2, tooLong, "CB", "Nepal", 20, 100, 12, 0));
+                fail("Name should not fit");
+            } catch (IllegalArgumentException expected) {
+            }
+            store.add(new TransferModel(2, "Last", "ST", "Brazil", 20, 100, 12, 0));
+        }
+
+        try (MappedPlayerStore store = MappedPlayerStore.open(file)) {
+            assertEquals(2, store.size());
+            assertEquals("First", store.getPlayerName(0));
+            assertEquals("Last", store.getPlayerName(1));
+            assertEquals("ST", store.getPosition(1));
+            assertEquals("Brazil", store.getNationality(1));
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.transfermarket.controller.datastructure;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * Tests for {@link OrderStatisticTree}, checked against a sorted
+ * {@link ArrayList}.
+ *
+ * @author Samir Adhikari
+ */
+public class OrderStatisticTreeTest {
+
+    private static void assertMatches(List<Integer> expected, OrderStatisticTree<Integer> tree) {
+        assertEquals(expected.size(), tree.size());
+        assertEquals(expected.isEmpty(), tree.isEmpty());
+        assertEquals(expected, tree.toList());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), tree.get(i));
+            assertEquals(i, tree.indexOf(expected.get(i)));
+        }
+    }
+
+    private static void assertIteratesFrom(List<Integer> expected, OrderStatisticTree<Integer> tree, int start) {
+        Iterator<Integer> iterator = tree.iterator(start);
+        for (int i = start; i < expected.size(); i++) {
+            assertTrue(iterator.hasNext());
+            assertEquals(expected.get(i), iterator.next());
+        }
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void randomEditsMatchASortedList() {
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>(Comparator.naturalOrder());
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(61);
+
+        for (int step = 0; step < 20000; step++) {
+            int value = random.nextInt(2000);
+            int at = Collections.binarySearch(expected, value);
+            // Add more than remove at first, then the other way round, so the tree grows and shrinks.
+            if (random.nextInt(100) < (step < 10000 ? 65 : 35)) {
+                assertEquals(at < 0, tree.add(value));
+                if (at < 0) {
+                    expected.add(-at - 1, value);
+                }
+            } else {
+                assertEquals(at >= 0, tree.remove(value));
+                if (at >= 0) {
+                    expected.remove(at);
+                }
+            }
+
+            assertEquals(expected.size(), tree.size());
+            int probe = random.nextInt(2000);
+            int rank = Collections.binarySearch(expected, probe);
+            assertEquals(rank >= 0 ? rank : -1, tree.indexOf(probe));
+            assertEquals(rank >= 0, tree.contains(probe));
+            if (!expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.get(index), tree.get(index));
+                assertIteratesFrom(expected, tree, index);
+                // Rank of the first element not below the probe.
+                assertEquals(rank >= 0 ? rank : -rank - 1, tree.countWhile(element -> element < probe));
+            }
+            if (step % 1000 == 0) {
+                assertMatches(expected, tree);
+                assertIteratesFrom(expected, tree, 0);
+                assertIteratesFrom(expected, tree, expected.size());
+            }
+        }
+        assertMatches(expected, tree);
+    }
+
+    @Test
+    public void removesNodesWithTwoChildrenAfterRotations() {
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>(Comparator.naturalOrder());
+        List<Integer> expected = new ArrayList<>();
+        // Ascending inserts rotate at every other step and leave a perfect tree: 8 at the root, 4 and 12 below it.
+        for (int value = 1; value <= 15; value++) {
+            tree.add(value);
+            expected.add(value);
+        }
+        assertMatches(expected, tree);
+
+        for (int value : new int[]{8, 4, 12, 9, 2}) {
+            assertTrue(tree.remove(value));
+            expected.remove(Integer.valueOf(value));
+            assertMatches(expected, tree);
+            assertIteratesFrom(expected, tree, expected.size() / 2);
+        }
+        // Removing everything from the middle out keeps hitting inner nodes.
+        while (!expected.isEmpty()) {
+            Integer middle = expected.remove(expected.size() / 2);
+            assertTrue(tree.remove(middle));
+            assertFalse(tree.remove(middle));
+            assertMatches(expected, tree);
+        }
+    }
+
+    @Test
+    public void subListCopiesARangeInOrder() {
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>(Comparator.naturalOrder());
+        List<Integer> expected = new ArrayList<>();
+        for (int value = 0; value < 100; value++) {
+            int shuffled = value * 37 % 100;
+            tree.add(shuffled);
+            expected.add(value);
+        }
+
+        assertEquals(expected.subList(10, 60), tree.subList(10, 60));
+        assertEquals(expected.subList(0, 0), tree.subList(0, 0));
+        assertEquals(expected, tree.subList(0, 100));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void subListRejectsARangePastTheEnd() {
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>(Comparator.naturalOrder());
+        tree.add(1);
+
+        tree.subList(0, 2);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void iteratorFromTheEndHasNothingToReturn() {
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>(Comparator.naturalOrder());
+        tree.add(1);
+
+        tree.iterator(1).next();
+    }
+}
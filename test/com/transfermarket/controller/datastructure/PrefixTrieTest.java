@@ -0,0 +1,112 @@
+package com.transfermarket.controller.datastructure;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * Tests for {@link PrefixTrie}.
+ *
+ * @author Samir Adhikari
+ */
+public class PrefixTrieTest {
+
+    private static final String[] SYLLABLES = {"ma", "me", "mes", "si", "ro", "nal", "do", "ney", "mar", "a"};
+
+    private static String key(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    @Test
+    public void duplicateNamesAreCountedButSuggestedOnce() {
+        PrefixTrie trie = new PrefixTrie();
+        trie.add("Messi");
+        trie.add("Messi");
+        trie.add("messi");
+        trie.add("Mesut");
+
+        assertEquals(4, trie.size());
+        assertEquals(List.of("Messi", "messi", "Mesut"), trie.suggest("MES", 10));
+        assertEquals(List.of("Messi"), trie.suggest("mes", 1));
+    }
+
+    @Test
+    public void removalsAreCountedAndPruned() {
+        PrefixTrie trie = new PrefixTrie();
+        trie.add("Messi");
+        trie.add("Messi");
+        trie.add("Mesut");
+
+        assertTrue(trie.remove("Messi"));
+        assertEquals(2, trie.size());
+        assertEquals(List.of("Messi", "Mesut"), trie.suggest("me", 10));
+
+        assertTrue(trie.remove("Messi"));
+        assertEquals(1, trie.size());
+        assertEquals(List.of("Mesut"), trie.suggest("me", 10));
+        assertTrue(trie.suggest("mess", 10).isEmpty());
+
+        // Names that were never added, or only differ in case, change nothing.
+        assertFalse(trie.remove("Messi"));
+        assertFalse(trie.remove("MESUT"));
+        assertFalse(trie.remove("Me"));
+        assertEquals(1, trie.size());
+
+        // The pruned branch can be grown again.
+        trie.add("Messi");
+        assertEquals(2, trie.size());
+        assertEquals(List.of("Messi", "Mesut"), trie.suggest("", 10));
+        assertTrue(trie.remove("Mesut"));
+        assertTrue(trie.remove("Messi"));
+        assertEquals(0, trie.size());
+        assertTrue(trie.suggest("", 10).isEmpty());
+    }
+
+    @Test
+    public void randomEditsMatchAListOfNames() {
+        PrefixTrie trie = new PrefixTrie();
+        List<String> stored = new ArrayList<>();
+        Random random = new Random(71);
+
+        for (int step = 0; step < 5000; step++) {
+            StringBuilder name = new StringBuilder();
+            for (int s = 1 + random.nextInt(3); s > 0; s--) {
+                name.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+            }
+            if (random.nextBoolean()) {
+                name.setCharAt(0, Character.toUpperCase(name.charAt(0)));
+            }
+            String value = name.toString();
+            if (random.nextInt(100) < 55) {
+                trie.add(value);
+                stored.add(value);
+            } else {
+                assertEquals(stored.remove(value), trie.remove(value));
+            }
+            assertEquals(stored.size(), trie.size());
+
+            String prefix = key(value).substring(0, random.nextInt(value.length() + 1));
+            Set<String> expected = new LinkedHashSet<>();
+            for (String candidate : stored) {
+                if (key(candidate).startsWith(prefix)) {
+                    expected.add(candidate);
+                }
+            }
+            List<String> suggested = trie.suggest(prefix, Integer.MAX_VALUE);
+            assertEquals(expected, new LinkedHashSet<>(suggested));
+            for (int i = 1; i < suggested.size(); i++) {
+                assertTrue(key(suggested.get(i - 1)).compareTo(key(suggested.get(i))) <= 0);
+            }
+            // A limited list is the start of the full one.
+            int limit = 1 + random.nextInt(3);
+            assertEquals(suggested.subList(0, Math.min(limit, suggested.size())), trie.suggest(prefix, limit));
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.transfermarket.controller.datastructure;
+
+import com.transfermarket.model.TransferModel;
+import com.transfermarket.util.RosterGenerator;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ * Tests for {@link RunningStatistics}, checked against figures recomputed
+ * from the current players.
+ *
+ * @author Samir Adhikari
+ */
+public class RunningStatisticsTest {
+
+    /**
+     * Recomputes every figure from scratch and compares it with the running
+     * one. Sums are compared relative to their size, since the running ones
+     * round differently.
+     */
+    private static void assertMatchesRecomputed(List<TransferModel> players, RunningStatistics statistics) {
+        int count = players.size();
+        double total = 0;
+        long ages = 0;
+        long goalContributions = 0;
+        Map<String, Integer> positionCounts = new TreeMap<>();
+        Map<String, Double> nationalityValues = new TreeMap<>();
+        for (TransferModel player : players) {
+            total += player.getMarketValue();
+            ages += player.getAge();
+            goalContributions += player.getGoalContribution();
+            positionCounts.merge(player.getPosition(), 1, Integer::sum);
+            nationalityValues.merge(player.getNationality(), player.getMarketValue(), Double::sum);
+        }
+        double mean = count == 0 ? 0 : total / count;
+        double squares = 0;
+        for (TransferModel player : players) {
+            squares += (player.getMarketValue() - mean) * (player.getMarketValue() - mean);
+        }
+        double variance = count == 0 ? 0 : squares / count;
+
+        assertEquals(count, statistics.getCount());
+        assertEquals(total, statistics.getTotalMarketValue(), 1e-9 * Math.abs(total));
+        assertEquals(mean, statistics.getMeanMarketValue(), 1e-9 * Math.abs(mean));
+        assertEquals(variance, statistics.getMarketValueVariance(), 1e-9 * variance + 1e-9 * mean * mean);
+        assertEquals(count == 0 ? 0 : (double) ages / count, statistics.getMeanAge(), 1e-12);
+        assertEquals(goalContributions, statistics.getTotalGoalContribution());
+        assertEquals(positionCounts, new TreeMap<>(statistics.getPositionCounts()));
+        Map<String, Double> running = statistics.getNationalityMarketValues();
+        assertEquals(nationalityValues.keySet(), new TreeMap<>(running).keySet());
+        nationalityValues.forEach((nationality, value) -> {
+            assertEquals(value, running.get(nationality), 1e-9 * value);
+            assertEquals(value, statistics.getNationalityMarketValue(nationality), 1e-9 * value);
+        });
+    }
+
+    @Test
+    public void followsAddsRemovesAndUpdates() {
+        RosterGenerator generator = new RosterGenerator(RosterGenerator.DEFAULT_SEED);
+        RunningStatistics statistics = new RunningStatistics();
+        List<TransferModel> players = new ArrayList<>();
+        Random random = new Random(19);
+        long next = 0;
+
+        for (int step = 0; step < 20000; step++) {
+            int action = random.nextInt(10);
+            if (players.isEmpty() || action < 5) {
+                TransferModel added = generator.player(next++);
+                players.add(added);
+                statistics.add(added);
+            } else if (action < 8) {
+                TransferModel removed = players.remove(random.nextInt(players.size()));
+                statistics.remove(removed);
+            } else {
+                // An edit is applied as the removal of the old player and the addition of the new one.
+                int index = random.nextInt(players.size());
+                TransferModel replacement = generator.player(next++);
+                statistics.remove(players.set(index, replacement));
+                statistics.add(replacement);
+            }
+            if (step % 500 == 0) {
+                assertMatchesRecomputed(players, statistics);
+            }
+        }
+        assertMatchesRecomputed(players, statistics);
+    }
+
+    @Test
+    public void emptyingTheRosterResetsEveryFigure() {
+        RunningStatistics statistics = new RunningStatistics();
+        List<TransferModel> players = new RosterGenerator(RosterGenerator.DEFAULT_SEED).stream(1000)
+                .collect(Collectors.toList());
+        players.forEach(statistics::add);
+        assertMatchesRecomputed(players, statistics);
+
+        // The sums would drift away from zero without the reset when the group empties.
+        for (int i = players.size() - 1; i >= 0; i--) {
+            statistics.remove(players.get(i));
+        }
+
+        assertEquals(0, statistics.getCount());
+        assertEquals(0, statistics.getTotalMarketValue(), 0);
+        assertEquals(0, statistics.getMeanMarketValue(), 0);
+        assertEquals(0, statistics.getMarketValueVariance(), 0);
+        assertEquals(0, statistics.getMeanAge(), 0);
+        assertEquals(new LinkedHashMap<>(), statistics.getPositionCounts());
+        assertEquals(new LinkedHashMap<>(), statistics.getNationalityMarketValues());
+    }
+
+    @Test
+    public void varianceOfKnownValues() {
+        RunningStatistics statistics = new RunningStatistics();
+        double[] values = {2, 4, 4, 4, 5, 5, 7, 9};
+        List<TransferModel> players = new ArrayList<>();
+        for (int i = 0; i < values.length; i++) {
+            players.add(new TransferModel(i + 1, "Player " + i, "CM", "Nepal", 25, values[i], 12, 0));
+            statistics.add(players.get(i));
+        }
+        assertEquals(5, statistics.getMeanMarketValue(), 1e-12);
+        assertEquals(4, statistics.getMarketValueVariance(), 1e-12);
+
+        // Taking out the two extremes leaves 4, 4, 4, 5, 5, 7.
+        statistics.remove(players.get(0));
+        statistics.remove(players.get(7));
+        assertEquals(29.0 / 6, statistics.getMeanMarketValue(), 1e-12);
+        assertEquals(41.0 / 36, statistics.getMarketValueVariance(), 1e-12);
+    }
+}
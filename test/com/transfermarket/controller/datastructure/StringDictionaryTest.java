@@ -0,0 +1,65 @@
+package com.transfermarket.controller.datastructure;
+
+import com.transfermarket.model.TransferModel;
+import com.transfermarket.model.Vocabulary;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+/**
+ * Tests for {@link StringDictionary}.
+ *
+ * @author Samir Adhikari
+ */
+public class StringDictionaryTest {
+
+    @Test
+    public void assignsCodesInFirstSeenOrder() {
+        StringDictionary dictionary = new StringDictionary("GK", "ST");
+
+        assertEquals(0, dictionary.encode("GK"));
+        assertEquals(2, dictionary.encode("Sweeper"));
+        assertEquals(2, dictionary.encode("Sweeper"));
+        assertEquals(3, dictionary.size());
+        assertEquals("Sweeper", dictionary.decode(2));
+        assertEquals(StringDictionary.NOT_FOUND, dictionary.codeOf("Libero"));
+    }
+
+    @Test
+    public void fixedDictionariesRejectUnknownValues() {
+        StringDictionary dictionary = StringDictionary.fixed("GK", "ST");
+
+        assertEquals(1, dictionary.encode("ST"));
+        try {
+            dictionary.encode("Sweeper");
+            fail("Sweeper is not in the dictionary");
+        } catch (IllegalArgumentException expected) {
+        }
+        assertEquals(2, dictionary.size());
+        assertEquals(StringDictionary.NOT_FOUND, dictionary.codeOf("Sweeper"));
+    }
+
+    @Test
+    public void playersCannotGrowTheSharedVocabulary() {
+        int positions = Vocabulary.POSITIONS.size();
+        int nationalities = Vocabulary.NATIONALITIES.size();
+        TransferModel player = new TransferModel(1, "Player", "GK", "Nepal", 20, 100, 12, 0);
+
+        for (int i = 0; i < 100; i++) {
+            try {
+                new TransferModel(2, "Player", "Position " + i, "Nepal", 20, 100, 12, 0);
+                fail("Position " + i + " is not in the vocabulary");
+            } catch (IllegalArgumentException expected) {
+            }
+            try {
+                player.setNationality("Country " + i);
+                fail("Country " + i + " is not in the vocabulary");
+            } catch (IllegalArgumentException expected) {
+            }
+        }
+
+        assertEquals(positions, Vocabulary.POSITIONS.size());
+        assertEquals(nationalities, Vocabulary.NATIONALITIES.size());
+        assertEquals("Nepal", player.getNationality());
+    }
+}
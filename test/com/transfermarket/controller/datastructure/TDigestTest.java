@@ -0,0 +1,132 @@
+package com.transfermarket.controller.datastructure;
+
+import java.util.Arrays;
+import java.util.Random;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * Tests for {@link TDigest}.
+ *
+ * @author Samir Adhikari
+ */
+public class TDigestTest {
+
+    private static final double[] QUANTILES = {0.001, 0.01, 0.1, 0.25, 0.5, 0.75, 0.9, 0.99, 0.999};
+
+    /**
+     * Allowed error in rank, as a fraction of the values: about 1% in the
+     * middle with the default compression, and much less at the tails.
+     */
+    private static double rankTolerance(double q) {
+        return Math.max(0.001, 0.015 * Math.sqrt(4 * q * (1 - q)));
+    }
+
+    /**
+     * How far, as a fraction of the values, the rank of an estimate lies from
+     * the rank asked for. Every value equal to the estimate counts as a hit.
+     */
+    private static double rankError(double[] sorted, double estimate, double q) {
+        int below = 0;
+        while (below < sorted.length && sorted[below] < estimate) {
+            below++;
+        }
+        int notAbove = below;
+        while (notAbove < sorted.length && sorted[notAbove] <= estimate) {
+            notAbove++;
+        }
+        double target = q * sorted.length;
+        double distance = target < below ? below - target : target > notAbove ? target - notAbove : 0;
+        return distance / sorted.length;
+    }
+
+    private static void assertQuantiles(double[] values, TDigest digest) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        for (double q : QUANTILES) {
+            double error = rankError(sorted, digest.quantile(q), q);
+            assertTrue("q = " + q + ", rank error " + error, error <= rankTolerance(q));
+        }
+        assertEquals(sorted[0], digest.quantile(0), 0);
+        assertEquals(sorted[sorted.length - 1], digest.quantile(1), 0);
+    }
+
+    private static double[] uniform(int n, Random random) {
+        double[] values = new double[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = random.nextDouble() * 1000;
+        }
+        return values;
+    }
+
+    private static double[] logNormal(int n, Random random) {
+        double[] values = new double[n];
+        for (int i = 0; i < n; i++) {
+            // Skewed like market values, with a long upper tail.
+            values[i] = 2000 * Math.exp(1.6 * random.nextGaussian());
+        }
+        return values;
+    }
+
+    @Test
+    public void quantilesStayWithinTheRankErrorBound() {
+        Random random = new Random(31);
+        for (double[] values : new double[][]{uniform(100000, random), logNormal(100000, random)}) {
+            TDigest digest = new TDigest();
+            for (double value : values) {
+                digest.add(value);
+            }
+
+            assertEquals(values.length, digest.size(), 0);
+            assertTrue(digest.centroidCount() <= Math.ceil(100 * Math.PI / 2) + 10);
+            assertQuantiles(values, digest);
+        }
+    }
+
+    @Test
+    public void mergedDigestsKeepTheBound() {
+        Random random = new Random(32);
+        double[] values = logNormal(100000, random);
+        TDigest merged = new TDigest();
+        // Ten partitions of different sizes, each summarised on its own.
+        int from = 0;
+        for (int part = 0; part < 10; part++) {
+            int to = part == 9 ? values.length : from + 2000 + random.nextInt(15000);
+            TDigest digest = new TDigest();
+            for (int i = from; i < to; i++) {
+                digest.add(values[i]);
+            }
+            merged.merge(digest);
+            from = to;
+        }
+
+        assertEquals(values.length, merged.size(), 0);
+        assertQuantiles(values, merged);
+    }
+
+    @Test
+    public void smallAndEmptyDigests() {
+        TDigest digest = new TDigest();
+        assertTrue(Double.isNaN(digest.quantile(0.5)));
+
+        digest.add(7);
+        assertEquals(7, digest.quantile(0), 0);
+        assertEquals(7, digest.quantile(0.5), 0);
+        assertEquals(7, digest.quantile(1), 0);
+
+        // One centroid per value; estimates interpolate between neighbours, so they are off by less than one value.
+        double[] values = {5, 1, 4, 2, 3};
+        TDigest few = new TDigest();
+        for (double value : values) {
+            few.add(value);
+        }
+        double[] sorted = {1, 2, 3, 4, 5};
+        for (double q : QUANTILES) {
+            assertTrue(rankError(sorted, few.quantile(q), q) < 1.0 / sorted.length);
+        }
+        assertEquals(1, few.quantile(0), 0);
+        assertEquals(3, few.quantile(0.5), 0);
+        assertEquals(5, few.quantile(1), 0);
+    }
+}
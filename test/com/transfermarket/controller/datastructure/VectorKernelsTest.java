@@ -0,0 +1,104 @@
+package com.transfermarket.controller.datastructure;
+
+import java.util.Random;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link VectorKernels}, checked against the scalar loops of
+ * {@link ColumnKernels}.
+ *
+ * @author Samir Adhikari
+ */
+public class VectorKernelsTest {
+
+    // Every length up to here, so each lane count up to 64 sees every tail length.
+    private static final int MAX_LENGTH = 200;
+
+    @Before
+    public void requireVectorSupport() {
+        // ColumnKernels reports false when the incubator module is missing or the CPU has no vectors.
+        assumeTrue(ColumnKernels.isVectorized());
+    }
+
+    /**
+     * Lengths to test: every length up to {@link #MAX_LENGTH}, then a few
+     * large ones that are not a multiple of any lane count.
+     */
+    private static int[] lengths() {
+        int[] lengths = new int[MAX_LENGTH + 4];
+        for (int i = 0; i <= MAX_LENGTH; i++) {
+            lengths[i] = i;
+        }
+        lengths[MAX_LENGTH + 1] = 1021;
+        lengths[MAX_LENGTH + 2] = 4099;
+        lengths[MAX_LENGTH + 3] = 65537;
+        return lengths;
+    }
+
+    @Test
+    public void intSumsMatchTheScalarLoopWithoutOverflow() {
+        Random random = new Random(41);
+        for (int length : lengths()) {
+            // Values near the int limits overflow an int sum after two elements, so only widened lanes agree.
+            int[] values = new int[length + 7];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = random.nextBoolean() ? Integer.MAX_VALUE - random.nextInt(10) : Integer.MIN_VALUE + random.nextInt(10);
+            }
+            int[] positive = new int[length + 7];
+            for (int i = 0; i < positive.length; i++) {
+                positive[i] = Integer.MAX_VALUE - i;
+            }
+
+            assertEquals("Length " + length, ColumnKernels.scalarSum(values, length), VectorKernels.sum(values, length));
+            assertEquals("Length " + length, ColumnKernels.scalarSum(positive, length), VectorKernels.sum(positive, length));
+        }
+    }
+
+    @Test
+    public void doubleSumsMatchTheScalarLoop() {
+        Random random = new Random(42);
+        for (int length : lengths()) {
+            double[] whole = new double[length + 7];
+            double[] fractional = new double[length + 7];
+            for (int i = 0; i < whole.length; i++) {
+                whole[i] = random.nextInt(2000001) - 1000000;
+                fractional[i] = random.nextDouble() * 1e6;
+            }
+
+            // Whole numbers add up exactly in any order; fractions only up to rounding.
+            assertEquals("Length " + length, ColumnKernels.scalarSum(whole, length), VectorKernels.sum(whole, length), 0);
+            double expected = ColumnKernels.scalarSum(fractional, length);
+            assertEquals("Length " + length, expected, VectorKernels.sum(fractional, length), expected * 1e-12);
+        }
+    }
+
+    @Test
+    public void countsMatchTheScalarLoop() {
+        Random random = new Random(43);
+        for (int length : lengths()) {
+            int[] ints = new int[length + 7];
+            double[] doubles = new double[length + 7];
+            for (int i = 0; i < ints.length; i++) {
+                ints[i] = random.nextInt(100) - 50;
+                doubles[i] = random.nextInt(10) == 0 ? Double.NaN : random.nextInt(100) - 50;
+            }
+            // Values past the length are above every threshold, so reading them would change the count.
+            for (int i = length; i < ints.length; i++) {
+                ints[i] = Integer.MAX_VALUE;
+                doubles[i] = Double.POSITIVE_INFINITY;
+            }
+
+            for (int threshold : new int[]{Integer.MIN_VALUE, -50, -1, 0, 25, 49, Integer.MAX_VALUE}) {
+                assertEquals("Length " + length, ColumnKernels.scalarCountAbove(ints, length, threshold),
+                        VectorKernels.countAbove(ints, length, threshold));
+                assertEquals("Length " + length, ColumnKernels.scalarCountAbove(doubles, length, threshold),
+                        VectorKernels.countAbove(doubles, length, (double) threshold));
+            }
+            assertEquals(ColumnKernels.scalarCountAbove(doubles, length, Double.NaN),
+                    VectorKernels.countAbove(doubles, length, Double.NaN));
+        }
+    }
+}
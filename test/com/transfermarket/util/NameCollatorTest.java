@@ -0,0 +1,134 @@
+package com.transfermarket.util;
+
+import com.transfermarket.controller.PlayerRegistry;
+import com.transfermarket.controller.datastructure.Algorithms;
+import com.transfermarket.model.TransferModel;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import javax.swing.BorderFactory;
+import javax.swing.JLabel;
+import javax.swing.JTextField;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * Tests for {@link NameCollator}, and that the registry, the legacy sorts,
+ * the binary search and the name validation all follow it.
+ *
+ * @author Samir Adhikari
+ */
+public class NameCollatorTest {
+
+    // Accented names, the same names in other case and with combining accents, and their neighbours.
+    private static final String[] NAMES = {"Núñez", "NÚÑEZ", "nu\u0301n\u0303ez", "Nunez", "Nuñoz", "Álvarez",
+        "alvarez", "Alves", "Mbappé", "MBAPPE", "Mbappe", "Müller", "Muller", "Mueller", "Çelik", "Celik",
+        "Ødegaard", "O'Brien", "De Jong", "de jong", "Jean-Luc", "Zoë", "Zoe", "Zoe\u0308", "Émile", "Emile", "Eve"};
+
+    private static int compare(String left, String right) {
+        return Integer.signum(NameCollator.keyOf(left).compareTo(NameCollator.keyOf(right)));
+    }
+
+    private static List<TransferModel> players() {
+        List<TransferModel> players = new ArrayList<>();
+        Random random = new Random(10);
+        for (int i = 0; i < NAMES.length * 4; i++) {
+            players.add(new TransferModel(i + 1, NAMES[random.nextInt(NAMES.length)], "CM", "Spain", 25, 100, 12, 0));
+        }
+        return players;
+    }
+
+    private static void assertOrderedByName(List<TransferModel> players) {
+        for (int i = 1; i < players.size(); i++) {
+            assertTrue(players.get(i - 1).getPlayerName() + " before " + players.get(i).getPlayerName(),
+                    compare(players.get(i - 1).getPlayerName(), players.get(i).getPlayerName()) <= 0);
+        }
+    }
+
+    @Test
+    public void caseIsIgnoredButAccentsAreNot() {
+        assertEquals(0, compare("Núñez", "NÚÑEZ"));
+        assertEquals(0, compare("de jong", "De Jong"));
+        assertNotEquals(0, compare("Núñez", "Nunez"));
+        assertNotEquals(0, compare("Zoë", "Zoe"));
+        assertEquals(0, compare(null, ""));
+    }
+
+    @Test
+    public void combiningAccentsEqualPrecomposedOnes() {
+        assertEquals(0, compare("Núñez", "Nu\u0301n\u0303ez"));
+        assertEquals(0, compare("Mbappé", "Mbappe\u0301"));
+        assertEquals(0, compare("Zoë", "ZOE\u0308"));
+    }
+
+    @Test
+    public void accentedNamesSortNextToTheirUnaccentedNeighbours() {
+        // The accent only decides between names that are otherwise equal.
+        assertTrue(compare("Nunez", "Núñez") < 0);
+        assertTrue(compare("Núñez", "Nuñoz") < 0);
+        assertTrue(compare("Álvarez", "Alves") < 0);
+        assertTrue(compare("Émile", "Eve") < 0);
+        assertTrue(compare("Ödegaard", "Olsen") < 0);
+    }
+
+    @Test
+    public void registryAndLegacySortAgree() {
+        List<TransferModel> players = players();
+        PlayerRegistry registry = new PlayerRegistry();
+        players.forEach(registry::add);
+
+        List<TransferModel> byRegistry = registry.playersByName();
+        LinkedList<TransferModel> bySelection = Algorithms.selectionSortByName(new LinkedList<>(players));
+        List<TransferModel> byMergeSort = Algorithms.sortByName(new ArrayList<>(players));
+
+        assertOrderedByName(byRegistry);
+        assertOrderedByName(bySelection);
+        assertOrderedByName(byMergeSort);
+        // Names equal under the collation may come in any order among themselves, so compare place by place.
+        for (int i = 0; i < players.size(); i++) {
+            assertEquals(0, compare(byRegistry.get(i).getPlayerName(), bySelection.get(i).getPlayerName()));
+            assertEquals(0, compare(byRegistry.get(i).getPlayerName(), byMergeSort.get(i).getPlayerName()));
+        }
+    }
+
+    @Test
+    public void binarySearchFindsEverySpellingOfASortedName() {
+        LinkedList<TransferModel> sorted = Algorithms.selectionSortByName(new LinkedList<>(players()));
+        PlayerRegistry registry = new PlayerRegistry();
+        sorted.forEach(registry::add);
+
+        for (TransferModel player : sorted) {
+            String name = player.getPlayerName();
+            for (String spelling : new String[]{name, name.toUpperCase(Locale.ROOT), name.toLowerCase(Locale.ROOT)}) {
+                int index = Algorithms.binarySearchByName(sorted, spelling);
+                assertTrue(spelling, index >= 0);
+                assertEquals(spelling, 0, compare(name, sorted.get(index).getPlayerName()));
+                assertTrue(spelling, registry.findByName(spelling).contains(player));
+            }
+        }
+        // Combining accents find the precomposed names.
+        assertTrue(Algorithms.binarySearchByName(sorted, "Nu\u0301n\u0303ez") >= 0);
+        assertFalse(registry.findByName("Nu\u0301n\u0303ez").isEmpty());
+        assertEquals(-1, Algorithms.binarySearchByName(sorted, "Nuñez"));
+        assertEquals(-1, Algorithms.binarySearchByName(sorted, "Zzz"));
+    }
+
+    @Test
+    public void validationAcceptsTheNamesTheCollatorOrders() {
+        JLabel error = new JLabel();
+        JTextField field = new JTextField();
+        field.setBorder(BorderFactory.createTitledBorder("Name"));
+
+        for (String name : NAMES) {
+            assertTrue(name, ValidationUtil.validatePlayerName(name, error, field));
+        }
+        assertFalse(ValidationUtil.validatePlayerName("Player 7", error, field));
+        assertFalse(ValidationUtil.validatePlayerName("Messi!", error, field));
+        assertFalse(ValidationUtil.validatePlayerName("", error, field));
+    }
+}
@@ -0,0 +1,111 @@
+package com.transfermarket.util;
+
+import com.transfermarket.controller.datastructure.StringDictionary;
+import com.transfermarket.model.TransferModel;
+import com.transfermarket.model.Vocabulary;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.swing.BorderFactory;
+import javax.swing.JComboBox;
+import javax.swing.JLabel;
+import javax.swing.JTextField;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * Tests for {@link RosterGenerator}.
+ *
+ * @author Samir Adhikari
+ */
+public class RosterGeneratorTest {
+
+    // The largest roster whose IDs all pass the Player ID rule.
+    private static final int MAX_VALID_ROSTER = 10000;
+
+    private static List<TransferModel> roster(long seed, int size) {
+        return new RosterGenerator(seed).stream(size).collect(Collectors.toList());
+    }
+
+    /**
+     * Compares players field by field, since {@link TransferModel} has no
+     * equals of its own.
+     */
+    private static void assertSamePlayer(TransferModel expected, TransferModel actual) {
+        assertEquals(expected.getPlayerId(), actual.getPlayerId());
+        assertEquals(expected.getPlayerName(), actual.getPlayerName());
+        assertEquals(expected.getPosition(), actual.getPosition());
+        assertEquals(expected.getNationality(), actual.getNationality());
+        assertEquals(expected.getAge(), actual.getAge());
+        assertEquals(expected.getMarketValue(), actual.getMarketValue(), 0);
+        assertEquals(expected.getContractDuration(), actual.getContractDuration());
+        assertEquals(expected.getGoalContribution(), actual.getGoalContribution());
+    }
+
+    @Test
+    public void theSameSeedGivesTheSameRoster() {
+        List<TransferModel> first = roster(RosterGenerator.DEFAULT_SEED, 2000);
+        List<TransferModel> second = roster(RosterGenerator.DEFAULT_SEED, 2000);
+        List<TransferModel> parallel = new RosterGenerator(RosterGenerator.DEFAULT_SEED).stream(2000)
+                .parallel().collect(Collectors.toList());
+        RosterGenerator generator = new RosterGenerator(RosterGenerator.DEFAULT_SEED);
+
+        for (int i = 0; i < first.size(); i++) {
+            assertSamePlayer(first.get(i), second.get(i));
+            assertSamePlayer(first.get(i), parallel.get(i));
+            // A player depends only on its index, not on the players before it.
+            assertSamePlayer(first.get(i), generator.player(i));
+        }
+    }
+
+    @Test
+    public void differentSeedsGiveDifferentRosters() {
+        List<TransferModel> first = roster(1, 200);
+        List<TransferModel> second = roster(2, 200);
+
+        long differentNames = 0;
+        for (int i = 0; i < first.size(); i++) {
+            assertEquals(first.get(i).getPlayerId(), second.get(i).getPlayerId());
+            if (!first.get(i).getPlayerName().equals(second.get(i).getPlayerName())) {
+                differentNames++;
+            }
+        }
+        assertNotEquals(0, differentNames);
+    }
+
+    @Test
+    public void playersPassTheValidationRules() {
+        JLabel error = new JLabel();
+        // Titled borders like the form's, which the validators keep when they reset a field.
+        JTextField field = new JTextField();
+        field.setBorder(BorderFactory.createTitledBorder("Field"));
+        JComboBox<String> combo = new JComboBox<>();
+        combo.setBorder(BorderFactory.createTitledBorder("Combo"));
+
+        for (TransferModel player : roster(RosterGenerator.DEFAULT_SEED, MAX_VALID_ROSTER)) {
+            String description = "Player " + player.getPlayerId();
+            assertTrue(description, ValidationUtil.validatePlayerID(String.valueOf(player.getPlayerId()), error, field));
+            assertTrue(description, ValidationUtil.validatePlayerName(player.getPlayerName(), error, field));
+            assertTrue(description, ValidationUtil.validateAge(String.valueOf(player.getAge()), error, field));
+            assertTrue(description, ValidationUtil.validateMarketValue(String.valueOf(player.getMarketValue()), error, field));
+            assertTrue(description, ValidationUtil.validateContractDuration(
+                    String.valueOf(player.getContractDuration()), error, field));
+            assertTrue(description, ValidationUtil.validateGoalContribution(
+                    String.valueOf(player.getGoalContribution()), error, field));
+            assertTrue(description, ValidationUtil.validateComboBox(player.getPosition(), error, combo, "Position", "Position"));
+            assertTrue(description, ValidationUtil.validateComboBox(player.getNationality(), error, combo, "Country", "Nationality"));
+            // The combo boxes offer exactly the vocabulary.
+            assertNotEquals(description, StringDictionary.NOT_FOUND, Vocabulary.POSITIONS.codeOf(player.getPosition()));
+            assertNotEquals(description, StringDictionary.NOT_FOUND, Vocabulary.NATIONALITIES.codeOf(player.getNationality()));
+        }
+    }
+
+    @Test
+    public void idsStartAtTheFirstId() {
+        RosterGenerator generator = new RosterGenerator(RosterGenerator.DEFAULT_SEED, 501);
+
+        assertEquals(501, generator.player(0).getPlayerId());
+        assertEquals(MAX_VALID_ROSTER, generator.player(MAX_VALID_ROSTER - 501).getPlayerId());
+    }
+}
@@ -0,0 +1,90 @@
+package com.transfermarket.view;
+
+import com.transfermarket.controller.datastructure.ColumnarPlayerStore;
+import com.transfermarket.model.TransferModel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import org.junit.Test;
+
+/**
+ * Tests for {@link PlayerTableModel}.
+ *
+ * @author Samir Adhikari
+ */
+public class PlayerTableModelTest {
+
+    private static TransferModel player(int id) {
+        return new TransferModel(id, "Player " + id, "GK", "Nepal", 20 + id % 15, 100 * id, 12, id % 7);
+    }
+
+    @Test
+    public void editsFollowTheRowOrder() {
+        PlayerTableModel model = new PlayerTableModel();
+        List<TransferModel> expected = new ArrayList<>();
+        Random random = new Random(7);
+        int nextId = 1;
+
+        // Mirror random edits and re-sorts on a plain list and compare the rows.
+        for (int step = 0; step < 2000; step++) {
+            int action = random.nextInt(10);
+            if (expected.isEmpty() || action < 4) {
+                TransferModel added = player(nextId++);
+                model.addPlayer(added);
+                expected.add(added);
+            } else if (action < 6) {
+                int row = random.nextInt(expected.size());
+                TransferModel removed = expected.remove(row);
+                assertSame(removed, model.removePlayer(row));
+                assertEquals(-1, model.findRow(removed.getPlayerId()));
+            } else if (action < 8) {
+                int row = random.nextInt(expected.size());
+                TransferModel replacement = player(nextId++);
+                assertSame(expected.set(row, replacement), model.setPlayer(row, replacement));
+            } else {
+                Collections.shuffle(expected, random);
+                model.setOrder(new ArrayList<>(expected));
+            }
+
+            assertEquals(expected.size(), model.getRowCount());
+            for (int row = 0; row < expected.size(); row++) {
+                assertSame(expected.get(row), model.getPlayer(row));
+                assertEquals(row, model.findRow(expected.get(row).getPlayerId()));
+            }
+        }
+    }
+
+    @Test
+    public void showsAStoreThroughAPermutation() {
+        ColumnarPlayerStore store = ColumnarPlayerStore.of(List.of(player(1), player(2), player(3)));
+        PlayerTableModel model = new PlayerTableModel(store);
+
+        model.setOrder(new int[]{2, 0, 1});
+
+        assertEquals(3, model.getValueAt(0, 0));
+        assertEquals("Player 1", model.getValueAt(1, 1));
+        assertEquals(200.0, model.getValueAt(2, 5));
+        assertEquals(1, model.getPlayer(1).getPlayerId());
+        // The store itself keeps its order.
+        assertArrayEquals(new int[]{1, 2, 3},
+                new int[]{store.getPlayerId(0), store.getPlayerId(1), store.getPlayerId(2)});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsAnOrderThatIsNotAPermutation() {
+        PlayerTableModel model = new PlayerTableModel(ColumnarPlayerStore.of(List.of(player(1), player(2))));
+
+        model.setOrder(new int[]{1, 1});
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void storeBackedTablesAreReadOnly() {
+        PlayerTableModel model = new PlayerTableModel(ColumnarPlayerStore.of(List.of(player(1))));
+
+        model.removePlayer(0);
+    }
+}